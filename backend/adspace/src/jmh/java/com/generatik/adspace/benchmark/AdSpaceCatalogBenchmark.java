@@ -0,0 +1,79 @@
+package com.generatik.adspace.benchmark;
+
+import com.generatik.adspace.config.CacheConfig;
+import com.generatik.adspace.dto.adspace.AdSpaceResponseDto;
+import com.generatik.adspace.service.AdSpaceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code getAvailableAdSpaces} served from the catalog cache and from H2 after an eviction.
+ * The catalog holds one ad space per 100 bookings, spread over {@link BenchmarkData#CITIES} cities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class AdSpaceCatalogBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int bookings;
+
+    private ConfigurableApplicationContext context;
+    private AdSpaceService adSpaceService;
+    private Cache catalog;
+    private String city;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.startApplication();
+        adSpaceService = context.getBean(AdSpaceService.class);
+        catalog = context.getBean(CacheManager.class).getCache(CacheConfig.AD_SPACE_CATALOG);
+        city = BenchmarkData.city(3);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        BenchmarkData.seedApprovedBookings(jdbc, BenchmarkData.seedAdSpaces(jdbc, BenchmarkData.adSpacesFor(bookings)), bookings);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<AdSpaceResponseDto> cachedByTypeAndCity() {
+        return adSpaceService.getAvailableAdSpaces("BILLBOARD", city);
+    }
+
+    @Benchmark
+    public List<AdSpaceResponseDto> uncachedByTypeAndCity() {
+        catalog.clear();
+        return adSpaceService.getAvailableAdSpaces("BILLBOARD", city);
+    }
+
+    @Benchmark
+    public List<AdSpaceResponseDto> uncachedAll() {
+        catalog.clear();
+        return adSpaceService.getAvailableAdSpaces(null, null);
+    }
+}
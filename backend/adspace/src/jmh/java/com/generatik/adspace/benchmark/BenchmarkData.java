@@ -0,0 +1,141 @@
+package com.generatik.adspace.benchmark;
+
+import com.generatik.adspace.AdspaceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application against an in-memory H2 database (or PostgreSQL, see {@link #startApplication(List, List)})
+ * and seeds it with plain JDBC batches, so even a million bookings load in seconds without going through
+ * the persistence context.
+ */
+final class BenchmarkData {
+
+    static final int CITIES = 10;
+    static final int BOOKINGS_PER_AD_SPACE = 100;
+
+    /** Approved bookings are 7 days long and start every 14 days, leaving a free week between them. */
+    static final int SLOT_DAYS = 14;
+    static final int BOOKING_DAYS = 7;
+
+    /** First bookable day; createBooking requires a start date in the future. */
+    static final LocalDate BASE = LocalDate.now().plusDays(1);
+
+    private static final int JDBC_BATCH_SIZE = 10_000;
+
+    /** {@code allocationSize} of {@code booking_request_seq} on {@code BookingRequest}. */
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private BenchmarkData() {
+    }
+
+    static ConfigurableApplicationContext startApplication() {
+        return startApplication(List.of(), List.of(
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false"));
+    }
+
+    /**
+     * Start with additional profiles and properties. Properties are passed as command line arguments, so they
+     * take precedence over the profile files.
+     * <p>
+     * Uses embedded H2 unless {@code -Dbenchmark.db.url} (with {@code benchmark.db.username} and
+     * {@code benchmark.db.password}) points to a PostgreSQL database; the tables are dropped on close.
+     */
+    static ConfigurableApplicationContext startApplication(List<String> profiles, List<String> properties) {
+        List<String> activeProfiles = new ArrayList<>();
+        List<String> arguments = new ArrayList<>(List.of(
+                "spring.jpa.properties.hibernate.generate_statistics=false",
+                "adspace.booking-index.verify-interval=P1D",
+                "adspace.outbox.relay-interval=PT1H",
+                "logging.level.root=WARN"));
+
+        String url = System.getProperty("benchmark.db.url");
+        if (url == null) {
+            activeProfiles.add("test");
+            arguments.add("spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        } else {
+            arguments.add("spring.datasource.url=" + url);
+            arguments.add("spring.datasource.username=" + System.getProperty("benchmark.db.username", "postgres"));
+            arguments.add("spring.datasource.password=" + System.getProperty("benchmark.db.password", ""));
+            arguments.add("spring.r2dbc.username=" + System.getProperty("benchmark.db.username", "postgres"));
+            arguments.add("spring.r2dbc.password=" + System.getProperty("benchmark.db.password", ""));
+            arguments.add("spring.jpa.hibernate.ddl-auto=create-drop");
+        }
+        activeProfiles.addAll(profiles);
+        arguments.addAll(properties);
+
+        return new SpringApplicationBuilder(AdspaceApplication.class)
+                .profiles(activeProfiles.toArray(String[]::new))
+                .web(WebApplicationType.NONE)
+                .run(arguments.stream().map(argument -> "--" + argument).toArray(String[]::new));
+    }
+
+    static boolean isPostgres() {
+        return System.getProperty("benchmark.db.url") != null;
+    }
+
+    static int adSpacesFor(int bookings) {
+        return Math.max(1, bookings / BOOKINGS_PER_AD_SPACE);
+    }
+
+    static String city(int i) {
+        return "City " + (i % CITIES);
+    }
+
+    /**
+     * Insert {@code count} AVAILABLE billboards spread over {@link #CITIES} cities and return their ids.
+     */
+    static List<Long> seedAdSpaces(JdbcTemplate jdbc, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{
+                    "Billboard " + i, "BILLBOARD", city(i), i + " Main St",
+                    BigDecimal.valueOf(100 + i % 400), "AVAILABLE", now, now});
+        }
+        for (int from = 0; from < rows.size(); from += JDBC_BATCH_SIZE) {
+            jdbc.batchUpdate("INSERT INTO ad_space (name, type, city, address, price_per_day, status, created_at, updated_at) " +
+                            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    rows.subList(from, Math.min(from + JDBC_BATCH_SIZE, rows.size())));
+        }
+        return jdbc.queryForList("SELECT id FROM ad_space ORDER BY id", Long.class);
+    }
+
+    /**
+     * Insert {@code count} APPROVED bookings round-robin over the ad spaces, each ad space receiving
+     * consecutive non-overlapping slots, then move the id sequence past the seeded rows.
+     */
+    static void seedApprovedBookings(JdbcTemplate jdbc, List<Long> adSpaceIds, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(JDBC_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = slotStart(i / adSpaceIds.size());
+            batch.add(new Object[]{
+                    (long) i + 1, adSpaceIds.get(i % adSpaceIds.size()), "Advertiser " + i, "advertiser" + i + "@example.com",
+                    Date.valueOf(start), Date.valueOf(start.plusDays(BOOKING_DAYS - 1)),
+                    "APPROVED", BigDecimal.valueOf(700), now});
+            if (batch.size() == JDBC_BATCH_SIZE || i == count - 1) {
+                jdbc.batchUpdate("INSERT INTO booking_request (id, ad_space_id, advertiser_name, advertiser_email, " +
+                        "start_date, end_date, status, total_cost, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        // The pooled optimizer hands out the block ending at the value it reads, so leave one block of headroom
+        jdbc.execute("ALTER SEQUENCE booking_request_seq RESTART WITH " + (count + 1 + ID_ALLOCATION_SIZE));
+    }
+
+    static LocalDate slotStart(int slot) {
+        return BASE.plusDays((long) slot * SLOT_DAYS);
+    }
+}
@@ -0,0 +1,22 @@
+package com.generatik.adspace.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Method handles onto private service helpers, so they can be measured without widening their visibility.
+ */
+final class BenchmarkHandles {
+
+    private BenchmarkHandles() {
+    }
+
+    static MethodHandle find(Class<?> owner, String name, MethodType type) {
+        try {
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).findVirtual(owner, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot access " + owner.getSimpleName() + "." + name, e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.generatik.adspace.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generatik.adspace.dto.adspace.AdSpaceResponseDto;
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingRequest;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.index.ApprovedBookingIndex;
+import com.generatik.adspace.service.impl.AdSpaceServiceImpl;
+import com.generatik.adspace.service.impl.BookingRequestServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping and JSON serialization of booking lists, as done for every listing response.
+ * The object mapper is configured the way Spring Boot configures the one used by the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class BookingMappingBenchmark {
+
+    private static final MethodHandle BOOKING_TO_DTO = BenchmarkHandles.find(
+            BookingRequestServiceImpl.class, "mapToDto",
+            MethodType.methodType(BookingResponseDto.class, BookingRequest.class));
+
+    private static final MethodHandle AD_SPACE_TO_DTO = BenchmarkHandles.find(
+            AdSpaceServiceImpl.class, "mapToDto",
+            MethodType.methodType(AdSpaceResponseDto.class, AdSpace.class));
+
+    @Param({"1000", "100000", "1000000"})
+    private int bookings;
+
+    private final BookingRequestServiceImpl bookingService = new BookingRequestServiceImpl(null, null, new ApprovedBookingIndex(), null, null, null, null, null);
+    private final AdSpaceServiceImpl adSpaceService = new AdSpaceServiceImpl(null, null, null, null);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<BookingRequest> entities;
+    private List<AdSpace> adSpaces;
+    private List<BookingResponseDto> dtos;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        adSpaces = new ArrayList<>();
+        for (int i = 0; i < BenchmarkData.adSpacesFor(bookings); i++) {
+            adSpaces.add(AdSpace.builder()
+                    .id((long) i + 1)
+                    .name("Billboard " + i)
+                    .type(AdSpaceType.BILLBOARD)
+                    .city(BenchmarkData.city(i))
+                    .address(i + " Main St")
+                    .pricePerDay(BigDecimal.valueOf(100))
+                    .status(AdSpaceStatus.AVAILABLE)
+                    .build());
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        entities = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            LocalDate start = BenchmarkData.slotStart(i / adSpaces.size());
+            entities.add(BookingRequest.builder()
+                    .id((long) i + 1)
+                    .adSpace(adSpaces.get(i % adSpaces.size()))
+                    .advertiserName("Advertiser " + i)
+                    .advertiserEmail("advertiser" + i + "@example.com")
+                    .startDate(start)
+                    .endDate(start.plusDays(BenchmarkData.BOOKING_DAYS - 1))
+                    .status(BookingStatus.APPROVED)
+                    .totalCost(BigDecimal.valueOf(700))
+                    .createdAt(createdAt)
+                    .build());
+        }
+        dtos = mapBookings();
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> mapBookings() throws Throwable {
+        List<BookingResponseDto> result = new ArrayList<>(entities.size());
+        for (BookingRequest entity : entities) {
+            result.add((BookingResponseDto) BOOKING_TO_DTO.invokeExact(bookingService, entity));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<AdSpaceResponseDto> mapAdSpaces() throws Throwable {
+        List<AdSpaceResponseDto> result = new ArrayList<>(adSpaces.size());
+        for (AdSpace adSpace : adSpaces) {
+            result.add((AdSpaceResponseDto) AD_SPACE_TO_DTO.invokeExact(adSpaceService, adSpace));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void serializeBookings() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), dtos);
+    }
+}
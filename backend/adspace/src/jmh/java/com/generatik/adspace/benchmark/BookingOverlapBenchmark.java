@@ -0,0 +1,129 @@
+package com.generatik.adspace.benchmark;
+
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.dto.booking.CreateBookingRequestDto;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.exception.BusinessValidationException;
+import com.generatik.adspace.index.ApprovedBookingIndex;
+import com.generatik.adspace.index.ApprovedBookingIndexLoader;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import com.generatik.adspace.service.BookingRequestService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overlap checking on the booking hot path: the in-memory {@link ApprovedBookingIndex} against the
+ * equivalent H2 query, and {@code createBooking} end to end inside a rolled-back transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class BookingOverlapBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    private int bookings;
+
+    private ConfigurableApplicationContext context;
+    private ApprovedBookingIndex approvedBookingIndex;
+    private BookingRequestRepository bookingRequestRepository;
+    private BookingRequestService bookingRequestService;
+    private TransactionTemplate transactionTemplate;
+
+    private final Long[] adSpaceIds = new Long[QUERIES];
+    private final LocalDate[] startDates = new LocalDate[QUERIES];
+    private final LocalDate[] endDates = new LocalDate[QUERIES];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.startApplication();
+        approvedBookingIndex = context.getBean(ApprovedBookingIndex.class);
+        bookingRequestRepository = context.getBean(BookingRequestRepository.class);
+        bookingRequestService = context.getBean(BookingRequestService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<Long> ids = BenchmarkData.seedAdSpaces(jdbc, BenchmarkData.adSpacesFor(bookings));
+        BenchmarkData.seedApprovedBookings(jdbc, ids, bookings);
+        context.getBean(ApprovedBookingIndexLoader.class).rebuild();
+
+        // Random 7-day windows over the seeded range: roughly three in four hit an approved booking
+        SplittableRandom random = new SplittableRandom(42);
+        int days = BenchmarkData.BOOKINGS_PER_AD_SPACE * BenchmarkData.SLOT_DAYS;
+        for (int i = 0; i < QUERIES; i++) {
+            adSpaceIds[i] = ids.get(random.nextInt(ids.size()));
+            startDates[i] = BenchmarkData.BASE.plusDays(random.nextInt(days));
+            endDates[i] = startDates[i].plusDays(BenchmarkData.BOOKING_DAYS - 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean indexHasOverlap() {
+        int i = nextQuery();
+        return approvedBookingIndex.hasOverlap(adSpaceIds[i], startDates[i], endDates[i]);
+    }
+
+    @Benchmark
+    public boolean databaseHasOverlap() {
+        int i = nextQuery();
+        return bookingRequestRepository.existsOverlapping(
+                adSpaceIds[i], BookingStatus.APPROVED, startDates[i], endDates[i]);
+    }
+
+    @Benchmark
+    public BookingResponseDto createBooking() {
+        int i = nextQuery();
+        CreateBookingRequestDto request = CreateBookingRequestDto.builder()
+                .adSpaceId(adSpaceIds[i])
+                .advertiserName("Benchmark")
+                .advertiserEmail("benchmark@example.com")
+                .startDate(startDates[i])
+                .endDate(endDates[i])
+                .build();
+
+        // Roll back so the data set stays the same across invocations
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            try {
+                return bookingRequestService.createBooking(request);
+            } catch (BusinessValidationException e) {
+                return null;
+            }
+        });
+    }
+
+    private int nextQuery() {
+        next = (next + 1) & (QUERIES - 1);
+        return next;
+    }
+}
@@ -0,0 +1,57 @@
+package com.generatik.adspace.benchmark;
+
+import com.generatik.adspace.exception.BusinessValidationException;
+import com.generatik.adspace.index.ApprovedBookingIndex;
+import com.generatik.adspace.service.impl.BookingRequestServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Date rule checks run on every create. The rejected case includes the cost of building the exception,
+ * which dominates when clients send many invalid requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingValidationBenchmark {
+
+    // The rule is private to the service; a constant method handle is inlined by the JIT like a direct call
+    private static final MethodHandle VALIDATE_BOOKING_DATES = BenchmarkHandles.find(
+            BookingRequestServiceImpl.class, "validateBookingDates",
+            MethodType.methodType(void.class, LocalDate.class, LocalDate.class));
+
+    private final BookingRequestServiceImpl service = new BookingRequestServiceImpl(null, null, new ApprovedBookingIndex(), null, null, null, null, null);
+    private final LocalDate validStart = LocalDate.now().plusDays(1);
+    private final LocalDate validEnd = validStart.plusDays(10);
+    private final LocalDate shortEnd = validStart.plusDays(2);
+
+    @Benchmark
+    public void validDates() throws Throwable {
+        VALIDATE_BOOKING_DATES.invokeExact(service, validStart, validEnd);
+    }
+
+    @Benchmark
+    public Object tooShortDates() throws Throwable {
+        try {
+            VALIDATE_BOOKING_DATES.invokeExact(service, validStart, shortEnd);
+            return null;
+        } catch (BusinessValidationException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.generatik.adspace.benchmark;
+
+import com.generatik.adspace.dto.adspace.AdSpacePageDto;
+import com.generatik.adspace.dto.booking.BookingBatchResultDto;
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.dto.booking.CreateBookingRequestDto;
+import com.generatik.adspace.index.ApprovedBookingIndexLoader;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import com.generatik.adspace.service.AdSpaceService;
+import com.generatik.adspace.service.BookingRequestService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of typical reads and a batch insert under the default configuration ({@code show-sql},
+ * default pool) and under the {@code prod} profile (sized pool, prepared statement caching, batched insert
+ * rewriting, sampled async SQL logging), with 8 concurrent callers.
+ * <p>
+ * Runs on embedded H2 unless a PostgreSQL database is given, which is needed to see the pgJDBC settings:
+ * {@code -Djmh.args="JdbcProfileBenchmark -jvmArgsAppend -Dbenchmark.db.url=jdbc:postgresql://localhost:5432/bench
+ * -Dbenchmark.db.username=postgres -Dbenchmark.db.password=secret"}. The tables are dropped afterwards.
+ * Standard output is discarded while measuring, so statement logging costs its formatting and synchronized
+ * writes but not the speed of the terminal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(JdbcProfileBenchmark.THREADS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class JdbcProfileBenchmark {
+
+    static final int THREADS = 8;
+
+    private static final int BOOKINGS = 100_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private BookingRequestService bookingRequestService;
+    private BookingRequestRepository bookingRequestRepository;
+    private AdSpaceService adSpaceService;
+    private TransactionTemplate transactionTemplate;
+    private List<Long> adSpaceIds;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = startApplication();
+        bookingRequestService = context.getBean(BookingRequestService.class);
+        bookingRequestRepository = context.getBean(BookingRequestRepository.class);
+        adSpaceService = context.getBean(AdSpaceService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        adSpaceIds = BenchmarkData.seedAdSpaces(jdbc, BenchmarkData.adSpacesFor(BOOKINGS));
+        BenchmarkData.seedApprovedBookings(jdbc, adSpaceIds, BOOKINGS);
+        context.getBean(ApprovedBookingIndexLoader.class).rebuild();
+
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(stdout);
+        context.close();
+    }
+
+    @Benchmark
+    public BookingResponseDto findBooking() {
+        return bookingRequestService.getBookingById(ThreadLocalRandom.current().nextLong(1, BOOKINGS + 1));
+    }
+
+    @Benchmark
+    public AdSpacePageDto searchAvailable() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int slot = random.nextInt(BenchmarkData.BOOKINGS_PER_AD_SPACE);
+        return adSpaceService.getAdSpacesAvailableBetween(BenchmarkData.slotStart(slot),
+                BenchmarkData.slotStart(slot).plusDays(BenchmarkData.SLOT_DAYS - 1),
+                null, BenchmarkData.city(random.nextInt(BenchmarkData.CITIES)), 0, 20, "pricePerDay", "asc");
+    }
+
+    @Benchmark
+    public BookingBatchResultDto createBatch(Caller caller) {
+        // Pending bookings after the seeded range, so none is rejected as overlapping
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<CreateBookingRequestDto> requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            var start = BenchmarkData.slotStart(BenchmarkData.BOOKINGS_PER_AD_SPACE + random.nextInt(50));
+            requests.add(CreateBookingRequestDto.builder()
+                    .adSpaceId(caller.adSpaceIds.get(random.nextInt(caller.adSpaceIds.size())))
+                    .advertiserName("Benchmark")
+                    .advertiserEmail("benchmark@example.com")
+                    .startDate(start)
+                    .endDate(start.plusDays(BenchmarkData.BOOKING_DAYS - 1))
+                    .build());
+        }
+
+        // Flush so the inserts reach the database, then roll back so the data set stays the same
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            BookingBatchResultDto result = bookingRequestService.createBookings(requests);
+            bookingRequestRepository.flush();
+            return result;
+        });
+    }
+
+    /**
+     * Each caller books its own share of the ad spaces: the batch locks every ad space it touches, and
+     * callers queueing on each other's locks would measure lock contention rather than the JDBC settings.
+     */
+    @State(Scope.Thread)
+    public static class Caller {
+
+        private static final AtomicInteger CALLERS = new AtomicInteger();
+
+        private List<Long> adSpaceIds;
+
+        @Setup(Level.Trial)
+        public void setUp(JdbcProfileBenchmark benchmark) {
+            int caller = CALLERS.getAndIncrement() % THREADS;
+            adSpaceIds = IntStream.range(0, benchmark.adSpaceIds.size())
+                    .filter(i -> i % THREADS == caller)
+                    .mapToObj(benchmark.adSpaceIds::get)
+                    .toList();
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication() {
+        if (profile.equals("prod")) {
+            // Sampled SQL is logged at INFO, root stays at WARN for everything else
+            return BenchmarkData.startApplication(List.of("prod"), List.of("logging.level.adspace.sql=INFO"));
+        }
+        // As in the main application.yml
+        return BenchmarkData.startApplication(List.of(), List.of(
+                "spring.jpa.show-sql=true",
+                "spring.jpa.properties.hibernate.format_sql=true"));
+    }
+}
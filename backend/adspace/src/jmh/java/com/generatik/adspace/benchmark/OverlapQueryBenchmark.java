@@ -0,0 +1,136 @@
+package com.generatik.adspace.benchmark;
+
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The approved-booking overlap check ({@code existsOverlapping}) on up to 10M bookings, for windows that hit
+ * an approved booking and for windows that fall into the free week between two. The query plan of each
+ * kind is printed during setup.
+ * <p>
+ * On PostgreSQL (see {@link BenchmarkData#startApplication(java.util.List, java.util.List)}), {@code -p index=btree,gist}
+ * compares {@code idx_booking_composite} alone with the GiST index from {@code db/postgresql/booking_overlap_gist.sql}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class OverlapQueryBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"1000000", "10000000"})
+    private int bookings;
+
+    /** {@code btree}, or {@code gist} to add the GiST index (PostgreSQL only). */
+    @Param({"btree"})
+    private String index;
+
+    private ConfigurableApplicationContext context;
+    private BookingRequestRepository bookingRequestRepository;
+
+    private final Long[] adSpaceIds = new Long[QUERIES];
+    private final LocalDate[] bookedStarts = new LocalDate[QUERIES];
+    private final LocalDate[] freeStarts = new LocalDate[QUERIES];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (index.equals("gist") && !BenchmarkData.isPostgres()) {
+            throw new IllegalStateException("The GiST index needs PostgreSQL: pass -Dbenchmark.db.url");
+        }
+        context = BenchmarkData.startApplication();
+        bookingRequestRepository = context.getBean(BookingRequestRepository.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<Long> ids = BenchmarkData.seedAdSpaces(jdbc, BenchmarkData.adSpacesFor(bookings));
+        BenchmarkData.seedApprovedBookings(jdbc, ids, bookings);
+        if (index.equals("gist")) {
+            jdbc.execute((Connection connection) -> {
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/postgresql/booking_overlap_gist.sql"));
+                return null;
+            });
+        } else if (BenchmarkData.isPostgres()) {
+            jdbc.execute("ANALYZE booking_request");
+        }
+
+        // Approved bookings occupy the first 7 days of every 14-day slot; the other 7 days are free
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < QUERIES; i++) {
+            adSpaceIds[i] = ids.get(random.nextInt(ids.size()));
+            bookedStarts[i] = BenchmarkData.slotStart(random.nextInt(BenchmarkData.BOOKINGS_PER_AD_SPACE));
+            freeStarts[i] = bookedStarts[i].plusDays(BenchmarkData.BOOKING_DAYS);
+        }
+
+        printPlan(jdbc, "overlapping", adSpaceIds[0], bookedStarts[0]);
+        printPlan(jdbc, "free", adSpaceIds[0], freeStarts[0]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean existsOverlappingHit() {
+        int i = nextQuery();
+        return bookingRequestRepository.existsOverlapping(adSpaceIds[i], BookingStatus.APPROVED,
+                bookedStarts[i], bookedStarts[i].plusDays(BenchmarkData.BOOKING_DAYS - 1));
+    }
+
+    @Benchmark
+    public boolean existsOverlappingMiss() {
+        int i = nextQuery();
+        return bookingRequestRepository.existsOverlapping(adSpaceIds[i], BookingStatus.APPROVED,
+                freeStarts[i], freeStarts[i].plusDays(BenchmarkData.BOOKING_DAYS - 1));
+    }
+
+    /**
+     * Print the plan of the statement {@code existsOverlapping} runs, with the values inlined, as rendered
+     * for the current database (see {@code DateRangeFunctionContributor}).
+     */
+    private static void printPlan(JdbcTemplate jdbc, String label, Long adSpaceId, LocalDate start) {
+        String from = "DATE '" + start + "'";
+        String to = "DATE '" + start.plusDays(BenchmarkData.BOOKING_DAYS - 1) + "'";
+        String sql = BenchmarkData.isPostgres()
+                ? "EXPLAIN (ANALYZE, BUFFERS) SELECT 1 FROM booking_request br WHERE br.ad_space_id = " + adSpaceId +
+                  " AND br.status = 'APPROVED' AND br.start_date <= " + to + " AND br.end_date >= " + from +
+                  " AND daterange(br.start_date, br.end_date, '[]') && daterange(" + from + ", " + to + ", '[]')" +
+                  " LIMIT 1"
+                : "EXPLAIN ANALYZE SELECT 1 FROM booking_request br WHERE br.ad_space_id = " + adSpaceId +
+                  " AND br.status = 'APPROVED' AND br.start_date <= " + to + " AND br.end_date >= " + from +
+                  " FETCH FIRST 1 ROWS ONLY";
+        List<String> plan = jdbc.query(sql, (row, rowNum) -> row.getString(1));
+        System.out.println("Plan, " + label + " window:\n  " + String.join("\n  ", plan));
+    }
+
+    private int nextQuery() {
+        next = (next + 1) & (QUERIES - 1);
+        return next;
+    }
+}
@@ -0,0 +1,212 @@
+package com.generatik.adspace.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load generator for comparing request execution modes (platform vs. virtual threads)
+ * against a running instance. Each simulated client sends its next request as soon as the previous one
+ * completes; requests are sent asynchronously, so thousands of clients need only a handful of threads here.
+ * <p>
+ * The request mix is read-heavy and blocks on JDBC in the server: the cached catalog, the date-range
+ * availability search and keyset-paginated bookings. Latencies are recorded after the warm-up only.
+ * <p>
+ * Options (all optional): {@code --url=http://localhost:8080 --clients=1000 --warmup=PT15S
+ * --duration=PT60S --label=platform --out=target/load-test.csv}
+ */
+public final class HttpLoadTest {
+
+    private final HttpClient httpClient;
+    private final List<URI> endpoints;
+    private final int[] weights;
+    private final long warmupEndNanos;
+    private final long endNanos;
+
+    private HttpLoadTest(URI baseUrl, Duration warmup, Duration duration) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        LocalDate from = LocalDate.now().plusDays(30);
+        this.endpoints = List.of(
+                baseUrl.resolve("/api/v1/ad-spaces"),
+                baseUrl.resolve("/api/v1/ad-spaces?from=" + from + "&to=" + from.plusDays(13) + "&size=20"),
+                baseUrl.resolve("/api/v1/booking-requests/page?limit=20"));
+        this.weights = new int[]{4, 3, 3};
+
+        long now = System.nanoTime();
+        this.warmupEndNanos = now + warmup.toNanos();
+        this.endNanos = warmupEndNanos + duration.toNanos();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        URI baseUrl = URI.create(options.getOrDefault("url", "http://localhost:8080"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "1000"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT15S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT60S"));
+        String label = options.getOrDefault("label", "run");
+
+        HttpLoadTest loadTest = new HttpLoadTest(baseUrl, warmup, duration);
+        System.out.printf("Running %d clients against %s: %s warm-up, %s measured%n", clients, baseUrl, warmup, duration);
+        Result result = loadTest.run(clients);
+
+        String summary = result.summary(label, clients, duration);
+        System.out.println(summary);
+        if (options.containsKey("out")) {
+            result.append(Path.of(options.get("out")), label, clients, duration);
+        }
+    }
+
+    private Result run(int clients) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(clients);
+        Client[] all = new Client[clients];
+        for (int i = 0; i < clients; i++) {
+            all[i] = new Client(done);
+            all[i].next();
+        }
+        long timeoutSeconds = TimeUnit.NANOSECONDS.toSeconds(endNanos - System.nanoTime()) + 60;
+        if (!done.await(timeoutSeconds, TimeUnit.SECONDS)) {
+            System.err.println("Some clients did not finish in time; their in-flight requests are ignored");
+        }
+        return Result.merge(all);
+    }
+
+    private URI pickEndpoint() {
+        int roll = ThreadLocalRandom.current().nextInt(Arrays.stream(weights).sum());
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return endpoints.get(i);
+            }
+        }
+        return endpoints.get(0);
+    }
+
+    /**
+     * One simulated user. Its state is only touched from the completion of its own previous request,
+     * so no synchronization is needed.
+     */
+    private final class Client {
+
+        private final CountDownLatch done;
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        private Client(CountDownLatch done) {
+            this.done = done;
+        }
+
+        private void next() {
+            long start = System.nanoTime();
+            if (start >= endNanos) {
+                done.countDown();
+                return;
+            }
+            HttpRequest request = HttpRequest.newBuilder(pickEndpoint())
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        if (start >= warmupEndNanos) {
+                            record(System.nanoTime() - start, failure == null && response.statusCode() < 400);
+                        }
+                        next();
+                    });
+        }
+
+        private void record(long latencyNanos, boolean success) {
+            if (!success) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+    }
+
+    private record Result(long[] latencies, long errors) {
+
+        static Result merge(Client[] clients) {
+            int total = Arrays.stream(clients).mapToInt(c -> c.count).sum();
+            long[] merged = new long[total];
+            int offset = 0;
+            long errors = 0;
+            for (Client client : clients) {
+                System.arraycopy(client.latencies, 0, merged, offset, client.count);
+                offset += client.count;
+                errors += client.errors;
+            }
+            Arrays.sort(merged);
+            return new Result(merged, errors);
+        }
+
+        double throughput(Duration duration) {
+            return latencies.length / (duration.toMillis() / 1000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        String summary(String label, int clients, Duration duration) {
+            return String.format("%s: clients=%d requests=%d errors=%d throughput=%.1f req/s "
+                            + "p50=%.2f ms p90=%.2f ms p99=%.2f ms p99.9=%.2f ms max=%.2f ms",
+                    label, clients, latencies.length, errors, throughput(duration),
+                    percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9),
+                    percentileMillis(100));
+        }
+
+        void append(Path file, String label, int clients, Duration duration) {
+            try {
+                if (Files.notExists(file)) {
+                    Files.writeString(file, "label,clients,requests,errors,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms\n");
+                }
+                Files.writeString(file, String.format("%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                                label, clients, latencies.length, errors, throughput(duration),
+                                percentileMillis(50), percentileMillis(90), percentileMillis(99),
+                                percentileMillis(99.9), percentileMillis(100)),
+                        StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,84 @@
+package com.generatik.adspace.analytics;
+
+import com.generatik.adspace.entity.AdSpaceRollup;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.AdSpaceRollupRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recomputes the rollups from the approved bookings, which remain the source of truth. Runs once the
+ * application is ready if the rollups are empty but approved bookings exist (first start after an upgrade),
+ * and on {@code adspace.analytics.rebuild-cron} if configured.
+ * <p>
+ * Ad spaces are rebuilt in chunks, each in its own transaction holding the chunk's ad space locks, so
+ * approvals on those ad spaces wait for the chunk instead of racing it, and approvals elsewhere carry on.
+ */
+@Slf4j
+@Component
+public class BookingRollupRebuilder {
+
+    private final AdSpaceRepository adSpaceRepository;
+    private final AdSpaceRollupRepository adSpaceRollupRepository;
+    private final BookingRequestRepository bookingRequestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BookingRollupRebuilder(
+            AdSpaceRepository adSpaceRepository,
+            AdSpaceRollupRepository adSpaceRollupRepository,
+            BookingRequestRepository bookingRequestRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${adspace.analytics.rebuild-chunk-size:200}") int chunkSize) {
+        this.adSpaceRepository = adSpaceRepository;
+        this.adSpaceRollupRepository = adSpaceRollupRepository;
+        this.bookingRequestRepository = bookingRequestRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        // Checked on the primary: a lagging replica could still show the rollups as empty
+        boolean missing = transactionTemplate.execute(status -> adSpaceRollupRepository.count() == 0 &&
+                bookingRequestRepository.countByStatus(BookingStatus.APPROVED) > 0);
+        if (missing) {
+            rebuild();
+        }
+    }
+
+    /**
+     * @return number of rollup rows written
+     */
+    @Scheduled(cron = "${adspace.analytics.rebuild-cron:-}")
+    public int rebuild() {
+        List<Long> adSpaceIds = adSpaceRepository.findAllIds();
+        int rows = 0;
+        for (int i = 0; i < adSpaceIds.size(); i += chunkSize) {
+            List<Long> chunk = adSpaceIds.subList(i, Math.min(i + chunkSize, adSpaceIds.size()));
+            rows += transactionTemplate.execute(status -> rebuildChunk(chunk));
+        }
+        log.info("Rebuilt analytics rollups of {} ad spaces: {} rows", adSpaceIds.size(), rows);
+        return rows;
+    }
+
+    private int rebuildChunk(List<Long> adSpaceIds) {
+        adSpaceRepository.findAllByIdInForUpdate(adSpaceIds);
+        adSpaceRollupRepository.deleteByAdSpaceIds(adSpaceIds);
+        Map<BookingRollupWriter.BucketKey, AdSpaceRollup> rollups = BookingRollupWriter.rollupsOf(
+                bookingRequestRepository.findDtosByStatusAndAdSpaceIds(BookingStatus.APPROVED, adSpaceIds));
+        adSpaceRollupRepository.saveAll(rollups.values());
+        return rollups.size();
+    }
+}
@@ -0,0 +1,108 @@
+package com.generatik.adspace.analytics;
+
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.entity.AdSpaceRollup;
+import com.generatik.adspace.entity.RollupGranularity;
+import com.generatik.adspace.repository.AdSpaceRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Adds approved bookings to the day, week and month rollups. Must run inside the approving transaction, while
+ * the ad spaces of the bookings are locked: that keeps concurrent approvals from incrementing the same rows
+ * and the rollups exactly in step with the approvals that commit.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class BookingRollupWriter {
+
+    private final AdSpaceRollupRepository adSpaceRollupRepository;
+
+    public void addApproved(Collection<BookingResponseDto> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        Map<BucketKey, AdSpaceRollup> increments = rollupsOf(bookings);
+
+        // Rows already there are incremented in place (updated at flush); the rest are inserted as JDBC batches
+        Set<Long> adSpaceIds = bookings.stream().map(BookingResponseDto::getAdSpaceId).collect(Collectors.toSet());
+        LocalDate from = increments.keySet().stream().map(BucketKey::bucketStart).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate to = increments.keySet().stream().map(BucketKey::bucketStart).max(Comparator.naturalOrder()).orElseThrow();
+        for (AdSpaceRollup existing : adSpaceRollupRepository.findByAdSpaceIdsAndBucketStartBetween(adSpaceIds, from, to)) {
+            AdSpaceRollup increment = increments.remove(BucketKey.of(existing));
+            if (increment != null) {
+                existing.add(increment.getBookedDays(), increment.getRevenue());
+            }
+        }
+        adSpaceRollupRepository.saveAll(increments.values());
+    }
+
+    /**
+     * Sum the bookings into new, unsaved rollup rows, one per ad space, granularity and bucket touched.
+     */
+    static Map<BucketKey, AdSpaceRollup> rollupsOf(Iterable<BookingResponseDto> bookings) {
+        Map<BucketKey, AdSpaceRollup> rollups = new LinkedHashMap<>();
+        for (BookingResponseDto booking : bookings) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                addBuckets(rollups, booking, granularity);
+            }
+        }
+        return rollups;
+    }
+
+    /**
+     * Split a booking into the buckets it covers. Revenue is prorated by days and rounded to cents, with the
+     * last bucket taking the remainder so the buckets always add up to the booking's total cost.
+     */
+    private static void addBuckets(Map<BucketKey, AdSpaceRollup> rollups, BookingResponseDto booking,
+                                   RollupGranularity granularity) {
+        LocalDate start = booking.getStartDate();
+        LocalDate end = booking.getEndDate();
+        BigDecimal totalCost = booking.getTotalCost();
+        long totalDays = ChronoUnit.DAYS.between(start, end) + 1;
+
+        BigDecimal allocated = BigDecimal.ZERO;
+        for (LocalDate bucket = granularity.bucketStart(start); !bucket.isAfter(end); bucket = granularity.nextBucket(bucket)) {
+            LocalDate next = granularity.nextBucket(bucket);
+            LocalDate segmentStart = bucket.isBefore(start) ? start : bucket;
+            LocalDate segmentEnd = next.isAfter(end) ? end : next.minusDays(1);
+            int days = (int) ChronoUnit.DAYS.between(segmentStart, segmentEnd) + 1;
+
+            BigDecimal revenue = segmentEnd.equals(end)
+                    ? totalCost.subtract(allocated)
+                    : totalCost.multiply(BigDecimal.valueOf(days)).divide(BigDecimal.valueOf(totalDays), 2, RoundingMode.HALF_EVEN);
+            allocated = allocated.add(revenue);
+
+            BucketKey key = new BucketKey(booking.getAdSpaceId(), granularity, bucket);
+            rollups.computeIfAbsent(key, k -> AdSpaceRollup.builder()
+                            .adSpaceId(k.adSpaceId())
+                            .granularity(k.granularity())
+                            .bucketStart(k.bucketStart())
+                            .bookedDays(0)
+                            .revenue(BigDecimal.ZERO)
+                            .build())
+                    .add(days, revenue);
+        }
+    }
+
+    record BucketKey(Long adSpaceId, RollupGranularity granularity, LocalDate bucketStart) {
+
+        static BucketKey of(AdSpaceRollup rollup) {
+            return new BucketKey(rollup.getAdSpaceId(), rollup.getGranularity(), rollup.getBucketStart());
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.generatik.adspace.availability;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generatik.adspace.dto.adspace.AvailabilityDeltaDto;
+import com.generatik.adspace.dto.adspace.AvailabilityDeltaDto.Change;
+import com.generatik.adspace.event.AdSpaceChangedEvent;
+import com.generatik.adspace.event.AdSpaceOccupancyRefreshedEvent;
+import com.generatik.adspace.event.BookingApprovedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes ad space availability deltas to Server-Sent Events subscribers.
+ * <p>
+ * Each committed change is turned into one delta and serialized once, then appended to every subscriber's
+ * own queue; a small pool of sender threads drains the queues, one task per subscriber at a time. The cost of
+ * a change does not depend on how many tabs are open, no subscriber ever causes a query, and a client that
+ * stops reading only stalls its own queue. A subscriber more than {@code adspace.availability.subscriber-buffer}
+ * frames behind is dropped and its stream completed; it reconnects with {@code Last-Event-ID} and catches up
+ * from the replay buffer. The senders' task queue is bounded too, and a subscriber whose task it cannot take
+ * is dropped the same way.
+ * <p>
+ * Subscriptions are registered under the lock that orders frames, so a subscriber resuming with
+ * {@code Last-Event-ID} gets the buffered deltas it missed followed by live ones, without gaps or duplicates.
+ * If it missed more than the buffer holds it receives a {@link Change#RESYNC} instead.
+ * <p>
+ * Event ids are {@code <epoch>-<sequence>}, where the epoch is random per process: sequences restart with the
+ * process and are not shared between instances, so an id from another epoch cannot be replayed from and also
+ * gets a {@link Change#RESYNC}.
+ */
+@Slf4j
+@Component
+public class AvailabilityBroadcaster {
+
+    private static final String EVENT_NAME = "availability";
+
+    private final String epoch = UUID.randomUUID().toString().replace("-", "");
+    private final ObjectMapper objectMapper;
+    private final Duration emitterTimeout;
+    private final int replaySize;
+    private final int subscriberBuffer;
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor senders;
+
+    // Guarded by this, as are all appends to subscriber queues, so every queue sees frames in sequence order
+    private final Deque<Frame> recent = new ArrayDeque<>();
+    private long sequence;
+
+    public AvailabilityBroadcaster(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${adspace.availability.emitter-timeout:PT30M}") Duration emitterTimeout,
+            @Value("${adspace.availability.replay-size:1000}") int replaySize,
+            @Value("${adspace.availability.subscriber-buffer:1000}") int subscriberBuffer,
+            @Value("${adspace.availability.sender-threads:4}") int senderThreads,
+            @Value("${adspace.availability.sender-queue:10000}") int senderQueue) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeout = emitterTimeout;
+        this.replaySize = replaySize;
+        this.subscriberBuffer = subscriberBuffer;
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(senderQueue), runnable -> {
+                    Thread thread = new Thread(runnable, "availability-sender-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Gauge.builder("adspace.availability.subscribers", subscribers, Map::size)
+                .description("Open availability event streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a stream for one client.
+     *
+     * @param lastEventId Id of the last delta the client received before reconnecting, if any
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(emitterTimeout.toMillis()), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(error -> subscribers.remove(emitter));
+
+        Subscriber subscriber = new Subscriber(emitter);
+        synchronized (this) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.put(emitter, subscriber);
+        }
+        subscriber.schedule();
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAdSpaceChanged(AdSpaceChangedEvent event) {
+        broadcast(AvailabilityDeltaDto.builder()
+                .change(event.removed() ? Change.AD_SPACE_REMOVED : Change.AD_SPACE_UPDATED)
+                .adSpaceId(event.adSpaceId())
+                .type(event.type())
+                .city(event.city())
+                .status(event.removed() ? null : event.status())
+                .build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingApproved(BookingApprovedEvent event) {
+        broadcast(AvailabilityDeltaDto.builder()
+                .change(Change.BOOKING_APPROVED)
+                .adSpaceId(event.adSpaceId())
+                .bookedFrom(event.startDate())
+                .bookedTo(event.endDate())
+                .build());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOccupancyRefreshed(AdSpaceOccupancyRefreshedEvent event) {
+        // Bulk updates do not say which ad spaces moved
+        broadcast(AvailabilityDeltaDto.builder().change(Change.RESYNC).build());
+    }
+
+    /**
+     * Keep idle connections open through proxies and detect clients that went away.
+     */
+    @Scheduled(
+            initialDelayString = "${adspace.availability.heartbeat-interval:PT15S}",
+            fixedDelayString = "${adspace.availability.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+            synchronized (this) {
+                subscribers.values().forEach(subscriber -> subscriber.offer(heartbeat));
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        subscribers.keySet().forEach(SseEmitter::complete);
+    }
+
+    private void broadcast(AvailabilityDeltaDto delta) {
+        synchronized (this) {
+            Frame frame = new Frame(++sequence, toEvent(sequence, delta));
+            recent.addLast(frame);
+            if (recent.size() > replaySize) {
+                recent.removeFirst();
+            }
+            subscribers.values().forEach(subscriber -> subscriber.offer(frame.event()));
+        }
+    }
+
+    /**
+     * Queue the frames a resuming subscriber missed, or a resync when they are no longer buffered. Called under
+     * the lock, before the subscriber receives live frames.
+     */
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long lastSequence = sequenceOf(lastEventId);
+        long oldest = recent.isEmpty() ? sequence + 1 : recent.peekFirst().id();
+        if (lastSequence < oldest - 1 || lastSequence > sequence) {
+            subscriber.add(toEvent(null, AvailabilityDeltaDto.builder().change(Change.RESYNC).build()));
+            return;
+        }
+        recent.stream()
+                .filter(frame -> frame.id() > lastSequence)
+                .forEach(frame -> subscriber.add(frame.event()));
+    }
+
+    /**
+     * The sequence number of an event id from this process, or -1 when it comes from another epoch or is malformed.
+     */
+    private long sequenceOf(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(eventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Set<DataWithMediaType> toEvent(Long id, AvailabilityDeltaDto delta) {
+        try {
+            SseEventBuilder event = SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(objectMapper.writeValueAsString(delta), MediaType.APPLICATION_JSON);
+            return (id != null ? event.id(epoch + "-" + id) : event).build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize availability delta", e);
+        }
+    }
+
+    private record Frame(long id, Set<DataWithMediaType> event) {
+    }
+
+    /**
+     * One client's stream and the frames not yet written to it. At most one sender task drains it at a time,
+     * which keeps its frames in order.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean dropped;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queue a live frame, or drop the subscriber when it is too far behind. Called under the broadcaster's
+         * lock, so it must not block.
+         */
+        private void offer(Set<DataWithMediaType> event) {
+            if (pendingCount.get() >= subscriberBuffer) {
+                log.debug("Dropping availability subscriber {} frames behind", subscriberBuffer);
+                drop();
+                return;
+            }
+            add(event);
+            schedule();
+        }
+
+        private void add(Set<DataWithMediaType> event) {
+            pending.add(event);
+            pendingCount.incrementAndGet();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    log.warn("Availability senders are saturated, dropping a subscriber");
+                    scheduled.set(false);
+                    drop();
+                }
+            }
+        }
+
+        /**
+         * Stop sending to this client. Its stream is completed by a sender rather than by the caller: a sender
+         * blocked writing to the stream holds the emitter's monitor, and broadcasts must not wait on it.
+         */
+        private void drop() {
+            dropped = true;
+            subscribers.remove(emitter);
+            pending.clear();
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Left to the emitter timeout
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                if (dropped) {
+                    emitter.complete();
+                    return;
+                }
+                Set<DataWithMediaType> event = pending.poll();
+                if (event == null) {
+                    scheduled.set(false);
+                    // A frame queued between the poll and clearing the flag would otherwise wait for the next one
+                    if (pending.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                pendingCount.decrementAndGet();
+                if (!send(event)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean send(Set<DataWithMediaType> event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; the container completes the emitter and the callbacks clean up
+                dropped = true;
+                subscribers.remove(emitter);
+                log.debug("Dropping availability subscriber: {}", e.getMessage());
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.generatik.adspace.campaign;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Finds the cheapest sets of ad spaces that are all free for the same contiguous window of days.
+ * <p>
+ * Window starts are split across a dedicated fork/join pool. For each start, candidates are scanned in price
+ * order and the first {@code count} free ones are taken, which is the cheapest set for that window; scanning
+ * stops as soon as the running total exceeds the budget. Each subtask keeps only its best {@code maxResults}
+ * distinct sets, so merging is cheap. Work past the deadline is skipped and the result marked incomplete.
+ */
+@Component
+public class CampaignSolver {
+
+    // Window starts searched by one subtask without forking further
+    private static final int WINDOWS_PER_TASK = 4;
+
+    private static final Comparator<Option> RANKING = Comparator
+        .comparing(Option::totalCost)
+        .thenComparingInt(Option::windowStart);
+
+    private final ForkJoinPool pool;
+    private final Duration timeout;
+
+    public CampaignSolver(
+        @Value("${adspace.campaign.parallelism:0}") int parallelism,
+        @Value("${adspace.campaign.timeout:PT2S}") Duration timeout
+    ) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.timeout = timeout;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * A bookable ad space. Bit {@code i} of {@code busy} is set when day {@code i} of the searched range is booked.
+     */
+    public record Candidate(Long id, String name, BigDecimal pricePerDay, BitSet busy) {
+    }
+
+    /**
+     * @param candidates Candidates ordered by price per day, cheapest first
+     * @param days Days in the searched range
+     * @param windowDays Days in each window
+     * @param count Ad spaces wanted in every window
+     * @param maxBudget Maximum total cost of a set, or null for no limit
+     * @param maxResults Number of sets to return
+     */
+    public record Problem(List<Candidate> candidates, int days, int windowDays, int count,
+                          BigDecimal maxBudget, int maxResults) {
+    }
+
+    /**
+     * A set of ad spaces free from day {@code windowStart} of the range for the window length.
+     */
+    public record Option(int windowStart, List<Candidate> adSpaces, BigDecimal totalCost) {
+    }
+
+    /**
+     * @param options Best options, cheapest first, then earliest
+     * @param complete False when the deadline cut the search short
+     */
+    public record Solution(List<Option> options, boolean complete) {
+    }
+
+    public Solution solve(Problem problem) {
+        return solve(problem, System.nanoTime());
+    }
+
+    /**
+     * @param startedAt {@link System#nanoTime()} when the search began, so time spent loading the problem counts
+     *                  against the timeout
+     */
+    public Solution solve(Problem problem, long startedAt) {
+        int windows = problem.days() - problem.windowDays() + 1;
+        if (windows <= 0 || problem.candidates().size() < problem.count()) {
+            return new Solution(List.of(), true);
+        }
+        long deadline = startedAt + timeout.toNanos();
+        return pool.invoke(new WindowSearch(problem, deadline, 0, windows));
+    }
+
+    private static final class WindowSearch extends RecursiveTask<Solution> {
+
+        private final Problem problem;
+        private final long deadline;
+        private final int from;
+        private final int to;
+
+        WindowSearch(Problem problem, long deadline, int from, int to) {
+            this.problem = problem;
+            this.deadline = deadline;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Solution compute() {
+            if (to - from > WINDOWS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                WindowSearch left = new WindowSearch(problem, deadline, from, middle);
+                left.fork();
+                Solution right = new WindowSearch(problem, deadline, middle, to).compute();
+                Solution joined = left.join();
+                List<Option> options = new ArrayList<>(joined.options());
+                options.addAll(right.options());
+                return new Solution(best(options, problem.maxResults()),
+                    joined.complete() && right.complete());
+            }
+            List<Option> options = new ArrayList<>();
+            for (int start = from; start < to; start++) {
+                if (System.nanoTime() - deadline > 0) {
+                    return new Solution(best(options, problem.maxResults()), false);
+                }
+                Option option = cheapest(start);
+                if (option != null) {
+                    options.add(option);
+                }
+            }
+            return new Solution(best(options, problem.maxResults()), true);
+        }
+
+        private Option cheapest(int start) {
+            BigDecimal windowDays = BigDecimal.valueOf(problem.windowDays());
+            List<Candidate> chosen = new ArrayList<>(problem.count());
+            BigDecimal total = BigDecimal.ZERO;
+            for (Candidate candidate : problem.candidates()) {
+                if (!isFree(candidate.busy(), start, problem.windowDays())) {
+                    continue;
+                }
+                total = total.add(candidate.pricePerDay().multiply(windowDays));
+                if (problem.maxBudget() != null && total.compareTo(problem.maxBudget()) > 0) {
+                    // Later candidates cost at least as much
+                    return null;
+                }
+                chosen.add(candidate);
+                if (chosen.size() == problem.count()) {
+                    return new Option(start, chosen, total);
+                }
+            }
+            return null;
+        }
+    }
+
+    static boolean isFree(BitSet busy, int start, int windowDays) {
+        int nextBusy = busy.nextSetBit(start);
+        return nextBusy < 0 || nextBusy >= start + windowDays;
+    }
+
+    /**
+     * The best {@code limit} options, keeping only the best window for each set of ad spaces: sliding a window
+     * by a day usually leaves the cheapest set unchanged.
+     */
+    static List<Option> best(List<Option> options, int limit) {
+        options.sort(RANKING);
+        List<Option> best = new ArrayList<>(Math.min(limit, options.size()));
+        Set<Set<Long>> seen = new HashSet<>();
+        for (Option option : options) {
+            if (best.size() == limit) {
+                break;
+            }
+            Set<Long> ids = new HashSet<>();
+            option.adSpaces().forEach(candidate -> ids.add(candidate.id()));
+            if (seen.add(ids)) {
+                best.add(option);
+            }
+        }
+        return best;
+    }
+}
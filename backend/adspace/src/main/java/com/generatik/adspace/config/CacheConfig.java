@@ -0,0 +1,17 @@
+package com.generatik.adspace.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Caffeine caches for the ad space catalog; sizes, TTL and statistics are set under {@code spring.cache}.
+ * Caching advice runs outside the transactional advice so a cache hit does not open a transaction.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String AD_SPACES = "adSpaces";
+    public static final String AD_SPACE_CATALOG = "adSpaceCatalog";
+}
@@ -0,0 +1,80 @@
+package com.generatik.adspace.config;
+
+import com.generatik.adspace.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JPA over JDBC serves all writes and the blocking reads; R2DBC serves the reactive read path against the same
+ * database. Spring Boot backs off its JDBC auto-configuration as soon as an R2DBC connection factory exists, so
+ * the pool is declared here from the usual {@code spring.datasource.*} properties.
+ * <p>
+ * When {@code adspace.datasource.replicas} are configured, read-only transactions are routed to them through
+ * {@link ReplicaRoutingDataSource}; each replica gets its own pool with the same {@code spring.datasource.hikari}
+ * settings.
+ * <p>
+ * Both stacks register a transaction manager; the JPA one is primary so {@code @Transactional} keeps resolving
+ * to it. The reactive read path runs without transactions.
+ */
+@Configuration
+@EnableConfigurationProperties({DataSourceProperties.class, ReplicaProperties.class})
+public class PersistenceConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, ReplicaProperties replicaProperties,
+                                 Environment environment) {
+        HikariDataSource primary = bindHikari(environment,
+                properties.initializeDataSourceBuilder().type(HikariDataSource.class).build());
+
+        List<ReplicaProperties.Replica> replicas = replicaProperties.getReplicas();
+        if (replicas.isEmpty()) {
+            return primary;
+        }
+
+        Map<String, DataSource> replicaPools = new TreeMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaProperties.Replica replica = replicas.get(i);
+            HikariDataSource pool = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            bindHikari(environment, pool);
+            pool.setPoolName("replica-" + (i + 1));
+            pool.setReadOnly(true);
+            replicaPools.put(pool.getPoolName(), pool);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicaPools);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    private static HikariDataSource bindHikari(Environment environment, HikariDataSource pool) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        return pool;
+    }
+}
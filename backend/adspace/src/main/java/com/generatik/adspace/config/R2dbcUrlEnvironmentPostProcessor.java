@@ -0,0 +1,35 @@
+package com.generatik.adspace.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Defaults {@code spring.r2dbc.url} to the JDBC URL with its {@code jdbc:} prefix replaced by {@code r2dbc:}, so the
+ * reactive read path reaches the same database without configuring it twice. This holds for PostgreSQL URLs;
+ * databases whose R2DBC URL has another shape (H2 among them) still need {@code spring.r2dbc.url} set explicitly.
+ */
+public class R2dbcUrlEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE = "derivedR2dbcUrl";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String r2dbcUrl;
+        String jdbcUrl;
+        try {
+            r2dbcUrl = environment.getProperty("spring.r2dbc.url");
+            jdbcUrl = environment.getProperty("spring.datasource.url");
+        } catch (IllegalArgumentException e) {
+            // An unset variable such as ${DB_URL}: the datasource reports it when it starts
+            return;
+        }
+        if ((r2dbcUrl == null || r2dbcUrl.isBlank()) && jdbcUrl != null && jdbcUrl.startsWith("jdbc:")) {
+            environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE,
+                    Map.of("spring.r2dbc.url", "r2dbc:" + jdbcUrl.substring("jdbc:".length()))));
+        }
+    }
+}
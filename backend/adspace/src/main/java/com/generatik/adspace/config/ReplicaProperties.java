@@ -0,0 +1,39 @@
+package com.generatik.adspace.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas under {@code adspace.datasource}. With no replicas configured every query uses
+ * {@code spring.datasource}.
+ */
+@Data
+@ConfigurationProperties("adspace.datasource")
+public class ReplicaProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Replicas further behind than this stop serving reads. After a client's write commits, its reads stay on
+     * the primary for this plus {@link #lagCheckInterval}, so any replica it is routed to afterwards has its write.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Query run on each replica returning its lag in seconds. Blank to treat replicas as always current.
+     */
+    private String lagQuery;
+
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
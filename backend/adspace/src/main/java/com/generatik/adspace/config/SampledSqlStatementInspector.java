@@ -0,0 +1,32 @@
+package com.generatik.adspace.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs a random sample of the SQL Hibernate prepares to the {@code adspace.sql} logger. Unlike
+ * {@code show-sql}, which prints every statement synchronously to stdout, the logger is backed by an async
+ * appender (see {@code logback-spring.xml}), so request threads only pay for a random number and a queue offer.
+ */
+@Slf4j(topic = "adspace.sql")
+public class SampledSqlStatementInspector implements StatementInspector {
+
+    private final double sampleRate;
+
+    public SampledSqlStatementInspector(double sampleRate) {
+        if (!(sampleRate > 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("SQL log sample rate must be in (0, 1], was " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (log.isInfoEnabled() && (sampleRate == 1 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            log.info(sql);
+        }
+        return sql;
+    }
+}
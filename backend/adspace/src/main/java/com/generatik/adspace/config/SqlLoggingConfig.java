@@ -0,0 +1,24 @@
+package com.generatik.adspace.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Installs {@link SampledSqlStatementInspector} when {@code adspace.sql-log.sample-rate} is above zero
+ * (the {@code prod} profile). Development keeps {@code show-sql}, which logs every statement.
+ */
+@Configuration
+public class SqlLoggingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sampledSqlLogging(@Value("${adspace.sql-log.sample-rate:0}") double sampleRate) {
+        return properties -> {
+            if (sampleRate > 0) {
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SampledSqlStatementInspector(sampleRate));
+            }
+        };
+    }
+}
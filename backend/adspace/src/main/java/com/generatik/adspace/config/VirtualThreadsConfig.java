@@ -0,0 +1,28 @@
+package com.generatik.adspace.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Reports whether the opt-in {@code virtual-threads} profile actually took effect. Spring Boot silently
+ * keeps platform threads below Java 21, which would make a load test comparison meaningless.
+ */
+@Slf4j
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportThreadingMode(ApplicationReadyEvent event) {
+        if (Threading.VIRTUAL.isActive(event.getApplicationContext().getEnvironment())) {
+            log.info("Requests and async tasks run on virtual threads");
+        } else {
+            log.warn("The virtual-threads profile is active but Java {} does not support virtual threads; "
+                    + "requests run on platform threads. Java 21 or later is required.", Runtime.version().feature());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.generatik.adspace.controller;
+
+import com.generatik.adspace.dto.analytics.AdSpaceAnalyticsDto;
+import com.generatik.adspace.service.AdSpaceAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+public class AdSpaceAnalyticsController {
+
+    private final AdSpaceAnalyticsService adSpaceAnalyticsService;
+
+    @GetMapping("/ad-spaces")
+    public ResponseEntity<AdSpaceAnalyticsDto> getAdSpaceAnalytics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "MONTH") String granularity,
+            @RequestParam(defaultValue = "AD_SPACE") String groupBy,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String city) {
+        AdSpaceAnalyticsDto analytics = adSpaceAnalyticsService.getAnalytics(granularity, groupBy, from, to, type, city);
+        return ResponseEntity.ok(analytics);
+    }
+}
@@ -1,11 +1,19 @@
 package com.generatik.adspace.controller;
 
+import com.generatik.adspace.dto.adspace.AdSpaceCalendarDto;
+import com.generatik.adspace.dto.adspace.AdSpacePageDto;
 import com.generatik.adspace.dto.adspace.AdSpaceResponseDto;
+import com.generatik.adspace.dto.adspace.AdSpaceSearchPageDto;
+import com.generatik.adspace.availability.AvailabilityBroadcaster;
 import com.generatik.adspace.service.AdSpaceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -14,6 +22,7 @@ import java.util.List;
 public class AdSpaceController {
 
     private final AdSpaceService adSpaceService;
+    private final AvailabilityBroadcaster availabilityBroadcaster;
 
     @GetMapping
     public ResponseEntity<List<AdSpaceResponseDto>> getAvailableAdSpaces(
@@ -23,6 +32,48 @@ public class AdSpaceController {
         return ResponseEntity.ok(adSpaces);
     }
 
+    @GetMapping(params = {"from", "to"})
+    public ResponseEntity<AdSpacePageDto> getAdSpacesAvailableBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String city,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "pricePerDay") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction) {
+        AdSpacePageDto adSpaces = adSpaceService.getAdSpacesAvailableBetween(
+                from, to, type, city, page, size, sortBy, direction);
+        return ResponseEntity.ok(adSpaces);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<AdSpaceSearchPageDto> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        AdSpaceSearchPageDto results = adSpaceService.search(q, type, lat, lon, radiusKm, page, size);
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping(path = "/availability", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return availabilityBroadcaster.subscribe(lastEventId);
+    }
+
+    @GetMapping("/{id}/calendar")
+    public ResponseEntity<AdSpaceCalendarDto> getCalendar(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        AdSpaceCalendarDto calendar = adSpaceService.getCalendar(id, from, to);
+        return ResponseEntity.ok(calendar);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<AdSpaceResponseDto> getAdSpaceById(@PathVariable Long id) {
         AdSpaceResponseDto adSpace = adSpaceService.getAdSpaceById(id);
@@ -0,0 +1,23 @@
+package com.generatik.adspace.controller;
+
+import com.generatik.adspace.dto.event.BookingEventPageDto;
+import com.generatik.adspace.service.BookingEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/booking-events")
+@RequiredArgsConstructor
+public class BookingEventController {
+
+    private final BookingEventService bookingEventService;
+
+    @GetMapping
+    public ResponseEntity<BookingEventPageDto> getEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit) {
+        BookingEventPageDto events = bookingEventService.getEvents(after, limit);
+        return ResponseEntity.ok(events);
+    }
+}
@@ -1,15 +1,26 @@
 package com.generatik.adspace.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generatik.adspace.dto.booking.BookingBatchResultDto;
+import com.generatik.adspace.dto.booking.BookingDecisionBatchRequestDto;
+import com.generatik.adspace.dto.booking.BookingDecisionBatchResultDto;
+import com.generatik.adspace.dto.booking.BookingPageDto;
 import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.dto.booking.CreateBookingBatchRequestDto;
 import com.generatik.adspace.dto.booking.CreateBookingRequestDto;
 import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.idempotency.IdempotentRequestCache;
 import com.generatik.adspace.service.BookingRequestService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,12 +29,33 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class BookingRequestController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final BookingRequestService bookingRequestService;
+    private final IdempotentRequestCache idempotentRequestCache;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
-    public ResponseEntity<BookingResponseDto> createBooking(@Valid @RequestBody CreateBookingRequestDto request) {
-        BookingResponseDto booking = bookingRequestService.createBooking(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(booking);
+    public ResponseEntity<BookingResponseDto> createBooking(
+            @Valid @RequestBody CreateBookingRequestDto request,
+            @RequestHeader(value = IdempotentRequestCache.HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            BookingResponseDto booking = bookingRequestService.createBooking(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(booking);
+        }
+
+        IdempotentRequestCache.Outcome<BookingResponseDto> outcome = idempotentRequestCache.execute(
+                idempotencyKey, request, () -> bookingRequestService.createBooking(request));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(outcome.replayed()))
+                .body(outcome.value());
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BookingBatchResultDto> createBookings(@Valid @RequestBody CreateBookingBatchRequestDto request) {
+        BookingBatchResultDto result = bookingRequestService.createBookings(request.getBookings());
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/{id}")
@@ -39,6 +71,32 @@ public class BookingRequestController {
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<BookingPageDto> getBookingPage(
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        BookingPageDto page = bookingRequestService.getBookingPage(Optional.ofNullable(status), cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportBookings(
+            @RequestParam(required = false) BookingStatus status,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        OutputStream out = response.getOutputStream();
+        bookingRequestService.exportBookings(Optional.ofNullable(status), booking -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(booking));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+
     @PatchMapping("/{id}/approve")
     public ResponseEntity<BookingResponseDto> approveBooking(@PathVariable Long id) {
         BookingResponseDto booking = bookingRequestService.approveBooking(id);
@@ -50,5 +108,19 @@ public class BookingRequestController {
         BookingResponseDto booking = bookingRequestService.rejectBooking(id);
         return ResponseEntity.ok(booking);
     }
+
+    @PatchMapping("/batch/approve")
+    public ResponseEntity<BookingDecisionBatchResultDto> approveBookings(
+            @Valid @RequestBody BookingDecisionBatchRequestDto request) {
+        BookingDecisionBatchResultDto result = bookingRequestService.approveBookings(request);
+        return ResponseEntity.ok(result);
+    }
+
+    @PatchMapping("/batch/reject")
+    public ResponseEntity<BookingDecisionBatchResultDto> rejectBookings(
+            @Valid @RequestBody BookingDecisionBatchRequestDto request) {
+        BookingDecisionBatchResultDto result = bookingRequestService.rejectBookings(request);
+        return ResponseEntity.ok(result);
+    }
 }
 
@@ -0,0 +1,22 @@
+package com.generatik.adspace.controller;
+
+import com.generatik.adspace.dto.campaign.CampaignSearchRequestDto;
+import com.generatik.adspace.dto.campaign.CampaignSearchResultDto;
+import com.generatik.adspace.service.CampaignSearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/campaigns")
+@RequiredArgsConstructor
+public class CampaignController {
+
+    private final CampaignSearchService campaignSearchService;
+
+    @PostMapping("/search")
+    public ResponseEntity<CampaignSearchResultDto> search(@Valid @RequestBody CampaignSearchRequestDto request) {
+        return ResponseEntity.ok(campaignSearchService.search(request));
+    }
+}
@@ -0,0 +1,42 @@
+package com.generatik.adspace.controller;
+
+import com.generatik.adspace.dto.adspace.AdSpaceResponseDto;
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.service.ReactiveReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Read-only partner API served from R2DBC. Spring MVC subscribes to the returned publishers without
+ * blocking a request thread while the database works. With {@code Accept: application/x-ndjson} list
+ * results are streamed one item at a time with backpressure; otherwise they are collected into a JSON array.
+ */
+@RestController
+@RequestMapping("/api/v1/reactive")
+@RequiredArgsConstructor
+public class ReactiveReadController {
+
+    private final ReactiveReadService reactiveReadService;
+
+    @GetMapping("/ad-spaces")
+    public Flux<AdSpaceResponseDto> getAvailableAdSpaces(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String city) {
+        return reactiveReadService.getAvailableAdSpaces(type, city);
+    }
+
+    @GetMapping("/ad-spaces/{id}")
+    public Mono<AdSpaceResponseDto> getAdSpaceById(@PathVariable Long id) {
+        return reactiveReadService.getAdSpaceById(id);
+    }
+
+    @GetMapping("/booking-requests")
+    public Flux<BookingResponseDto> getAllBookings(@RequestParam(required = false) BookingStatus status) {
+        return reactiveReadService.getAllBookings(Optional.ofNullable(status));
+    }
+}
@@ -0,0 +1,75 @@
+package com.generatik.adspace.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-request routing state: whether reads must go to the primary because this client wrote recently, and
+ * what to do when a write of the request commits.
+ * <p>
+ * Outside a request (scheduled jobs, tests calling services directly) nothing is pinned and writes are not
+ * tracked.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * @param pinnedToPrimary  whether the client wrote within the replica lag window
+     * @param onWriteCommitted invoked after each transaction of the request that used the primary for a write
+     *                         commits, so the lag window can be measured from the commit
+     */
+    public static void begin(boolean pinnedToPrimary, Runnable onWriteCommitted) {
+        CURRENT.set(new State(pinnedToPrimary, onWriteCommitted));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static boolean isPinnedToPrimary() {
+        State state = CURRENT.get();
+        return state != null && state.pinned;
+    }
+
+    static void recordWrite() {
+        State state = CURRENT.get();
+        if (state == null) {
+            return;
+        }
+        // Later reads in this request must see the write too
+        state.pinned = true;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            state.onWriteCommitted.run();
+            return;
+        }
+        // Once per transaction: the state doubles as the marker that its commit is already being watched
+        if (!TransactionSynchronizationManager.hasResource(state)) {
+            TransactionSynchronizationManager.bindResource(state, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    state.onWriteCommitted.run();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(state);
+                }
+            });
+        }
+    }
+
+    private static final class State {
+        private boolean pinned;
+        private final Runnable onWriteCommitted;
+
+        private State(boolean pinned, Runnable onWriteCommitted) {
+            this.pinned = pinned;
+            this.onWriteCommitted = onWriteCommitted;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.generatik.adspace.datasource;
+
+import com.generatik.adspace.config.ReplicaProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Lets a client read its own writes while replicas catch up. A request that writes gets a cookie holding the
+ * time until which that client's reads are served by the primary. The window starts when the write commits and
+ * lasts the maximum replica lag tolerated by {@link ReplicaLagMonitor} plus its check interval, since a replica
+ * can fall behind for up to one interval before it is skipped.
+ */
+@Component
+@ConditionalOnProperty(name = "adspace.datasource.replicas[0].url")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "adspace-primary-until";
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(ReplicaProperties properties) {
+        this.window = properties.getMaxLag().plus(properties.getLagCheckInterval());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReadYourWritesContext.begin(primaryUntil(request) > System.currentTimeMillis(),
+                () -> response.addCookie(cookie(System.currentTimeMillis())));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.end();
+        }
+    }
+
+    private long primaryUntil(HttpServletRequest request) {
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    private Cookie cookie(long committedAt) {
+        Cookie cookie = new Cookie(COOKIE, String.valueOf(committedAt + window.toMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        return cookie;
+    }
+}
@@ -0,0 +1,70 @@
+package com.generatik.adspace.datasource;
+
+import com.generatik.adspace.config.ReplicaProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically measures each replica's lag with {@code adspace.datasource.lag-query} and only lets replicas
+ * within {@code adspace.datasource.max-lag} serve reads. Unreachable replicas are taken out as well.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "adspace.datasource.replicas[0].url")
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final ReplicaProperties properties;
+
+    public ReplicaLagMonitor(DataSource dataSource, ReplicaProperties properties, MeterRegistry meterRegistry)
+            throws SQLException {
+        this.routingDataSource = dataSource.unwrap(ReplicaRoutingDataSource.class);
+        this.properties = properties;
+        Gauge.builder("adspace.datasource.replicas.eligible", routingDataSource,
+                        routing -> routing.getEligibleReplicas().size())
+                .description("Read replicas currently within the lag limit")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${adspace.datasource.lag-check-interval:PT5S}",
+            fixedDelayString = "${adspace.datasource.lag-check-interval:PT5S}")
+    public void refresh() {
+        String lagQuery = properties.getLagQuery();
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return;
+        }
+
+        double maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        List<String> eligible = new ArrayList<>();
+        for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            try {
+                Double lag = new JdbcTemplate(replica.getValue()).queryForObject(lagQuery, Double.class);
+                if (lag != null && lag <= maxLagSeconds) {
+                    eligible.add(replica.getKey());
+                } else {
+                    log.debug("Replica {} is {}s behind; reads go elsewhere", replica.getKey(), lag);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not check lag of replica {}: {}", replica.getKey(), e.getMessage());
+            }
+        }
+        eligible.sort(null);
+
+        if (!eligible.equals(routingDataSource.getEligibleReplicas())) {
+            log.info("Replicas serving reads: {}", eligible.isEmpty() ? "none, using the primary" : eligible);
+        }
+        routingDataSource.setEligibleReplicas(eligible);
+    }
+}
@@ -0,0 +1,25 @@
+package com.generatik.adspace.dto.adspace;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Booked days of an ad space between {@code from} and {@code to} (inclusive).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdSpaceCalendarDto {
+    private Long adSpaceId;
+    private LocalDate from;
+    private LocalDate to;
+    private int days;
+    private int bookedDays;
+    // Base64 of ceil(days / 8) bytes; bit i (byte i / 8, least significant bit first) is set when day from + i is booked
+    private String bitmap;
+}
@@ -0,0 +1,20 @@
+package com.generatik.adspace.dto.adspace;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdSpacePageDto {
+    private List<AdSpaceResponseDto> items;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+}
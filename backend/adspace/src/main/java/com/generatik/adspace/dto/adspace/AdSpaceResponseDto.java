@@ -21,5 +21,7 @@ public class AdSpaceResponseDto {
     private String address;
     private BigDecimal pricePerDay;
     private AdSpaceStatus status;
+    private Double latitude;
+    private Double longitude;
 }
 
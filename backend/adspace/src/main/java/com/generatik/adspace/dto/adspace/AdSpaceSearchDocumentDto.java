@@ -0,0 +1,24 @@
+package com.generatik.adspace.dto.adspace;
+
+import com.generatik.adspace.entity.AdSpaceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The ad space columns held in the search index, read without hydrating entities.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdSpaceSearchDocumentDto {
+    private Long id;
+    private String name;
+    private AdSpaceType type;
+    private String city;
+    private String address;
+    private Double latitude;
+    private Double longitude;
+}
@@ -0,0 +1,18 @@
+package com.generatik.adspace.dto.adspace;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdSpaceSearchHitDto {
+    private AdSpaceResponseDto adSpace;
+    // Relevance to the search text; null when searching by location only
+    private Float score;
+    // Distance from the search location; null when no location was given or the ad space has none
+    private Double distanceKm;
+}
@@ -0,0 +1,41 @@
+package com.generatik.adspace.dto.adspace;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * One change to ad space availability pushed to live subscribers.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AvailabilityDeltaDto {
+
+    public enum Change {
+        /** The ad space was created or updated; {@code status}, {@code type} and {@code city} are current */
+        AD_SPACE_UPDATED,
+        /** The ad space no longer exists */
+        AD_SPACE_REMOVED,
+        /** {@code bookedFrom}..{@code bookedTo} (inclusive) is no longer available on the ad space */
+        BOOKING_APPROVED,
+        /** Changes were missed or applied in bulk; reload ad spaces before applying further deltas */
+        RESYNC
+    }
+
+    private Change change;
+    private Long adSpaceId;
+    private AdSpaceType type;
+    private String city;
+    private AdSpaceStatus status;
+    private LocalDate bookedFrom;
+    private LocalDate bookedTo;
+}
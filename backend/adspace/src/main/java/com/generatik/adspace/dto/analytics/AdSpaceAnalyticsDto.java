@@ -0,0 +1,22 @@
+package com.generatik.adspace.dto.analytics;
+
+import com.generatik.adspace.entity.RollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdSpaceAnalyticsDto {
+    private RollupGranularity granularity;
+    private AnalyticsGroupBy groupBy;
+    private LocalDate from;
+    private LocalDate to;
+    private List<AdSpaceAnalyticsRowDto> rows;
+}
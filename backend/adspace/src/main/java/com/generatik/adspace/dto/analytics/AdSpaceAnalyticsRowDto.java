@@ -0,0 +1,24 @@
+package com.generatik.adspace.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdSpaceAnalyticsRowDto {
+    // Ad space id, city or type, depending on the grouping
+    private String group;
+    private LocalDate bucketStart;
+    private LocalDate bucketEnd;
+    private long adSpaces;
+    private long bookedDays;
+    private BigDecimal occupancyRate;
+    private BigDecimal revenue;
+}
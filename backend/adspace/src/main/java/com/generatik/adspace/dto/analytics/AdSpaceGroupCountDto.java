@@ -0,0 +1,15 @@
+package com.generatik.adspace.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdSpaceGroupCountDto {
+    private String group;
+    private Long adSpaces;
+}
@@ -0,0 +1,10 @@
+package com.generatik.adspace.dto.analytics;
+
+/**
+ * Dimension the analytics rows are grouped by.
+ */
+public enum AnalyticsGroupBy {
+    AD_SPACE,
+    CITY,
+    TYPE
+}
@@ -0,0 +1,23 @@
+package com.generatik.adspace.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Rollup rows of one group and bucket, summed by the database.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RollupTotalsDto {
+    private String group;
+    private LocalDate bucketStart;
+    private Long bookedDays;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,20 @@
+package com.generatik.adspace.dto.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingBatchItemResultDto {
+    private int index;
+    private boolean success;
+    private BookingResponseDto booking;
+    private String message;
+    private List<String> errors;
+}
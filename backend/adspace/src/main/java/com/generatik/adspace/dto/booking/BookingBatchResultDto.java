@@ -0,0 +1,18 @@
+package com.generatik.adspace.dto.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingBatchResultDto {
+    private int created;
+    private int failed;
+    private List<BookingBatchItemResultDto> results;
+}
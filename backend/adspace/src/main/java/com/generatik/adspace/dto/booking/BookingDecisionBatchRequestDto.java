@@ -0,0 +1,27 @@
+package com.generatik.adspace.dto.booking;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bookings to approve or reject at once: either explicit {@code ids}, or a {@code filter} over the PENDING
+ * queue (oldest first, at most 1000 per call).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingDecisionBatchRequestDto {
+
+    @Size(max = 1000, message = "At most 1000 bookings can be decided at once")
+    private List<Long> ids;
+
+    @Valid
+    private PendingBookingFilterDto filter;
+}
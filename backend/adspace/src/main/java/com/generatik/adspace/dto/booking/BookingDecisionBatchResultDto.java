@@ -0,0 +1,20 @@
+package com.generatik.adspace.dto.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingDecisionBatchResultDto {
+    private int succeeded;
+    private int failed;
+    // Other PENDING bookings rejected because an approved booking now covers their dates
+    private int autoRejected;
+    private List<BookingDecisionItemResultDto> results;
+}
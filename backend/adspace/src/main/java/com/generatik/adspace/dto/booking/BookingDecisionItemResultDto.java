@@ -0,0 +1,18 @@
+package com.generatik.adspace.dto.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingDecisionItemResultDto {
+    private Long id;
+    private boolean success;
+    // Current state of the booking; absent if it does not exist
+    private BookingResponseDto booking;
+    private String message;
+}
@@ -0,0 +1,19 @@
+package com.generatik.adspace.dto.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingIntervalDto {
+    private Long bookingId;
+    private Long adSpaceId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -0,0 +1,22 @@
+package com.generatik.adspace.dto.booking;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreateBookingBatchRequestDto {
+
+    // Items are validated one by one so that each gets its own result
+    @NotEmpty(message = "At least one booking is required")
+    @Size(max = 500, message = "At most 500 bookings can be submitted at once")
+    private List<CreateBookingRequestDto> bookings;
+}
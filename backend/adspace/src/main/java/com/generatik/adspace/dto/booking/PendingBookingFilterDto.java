@@ -0,0 +1,21 @@
+package com.generatik.adspace.dto.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Selects PENDING bookings; every criterion is optional and an empty filter matches the whole queue.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingBookingFilterDto {
+    private Long adSpaceId;
+    private LocalDate startDateFrom;
+    private LocalDate startDateTo;
+}
@@ -0,0 +1,19 @@
+package com.generatik.adspace.dto.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CampaignAdSpaceDto {
+    private Long id;
+    private String name;
+    private BigDecimal pricePerDay;
+    private BigDecimal cost;
+}
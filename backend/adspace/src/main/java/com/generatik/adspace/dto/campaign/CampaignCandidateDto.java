@@ -0,0 +1,21 @@
+package com.generatik.adspace.dto.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * The few ad space columns the campaign search needs, read without hydrating entities.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CampaignCandidateDto {
+    private Long id;
+    private String name;
+    private BigDecimal pricePerDay;
+}
@@ -0,0 +1,21 @@
+package com.generatik.adspace.dto.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CampaignOptionDto {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal totalCost;
+    private List<CampaignAdSpaceDto> adSpaces;
+}
@@ -0,0 +1,52 @@
+package com.generatik.adspace.dto.campaign;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * "N ad spaces of a type in a city, booked together for any contiguous window of D days between two dates,
+ * within a budget."
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CampaignSearchRequestDto {
+
+    // Optional filters
+    private String type;
+    private String city;
+
+    @NotNull(message = "Number of ad spaces is required")
+    @Min(value = 1, message = "At least one ad space is required")
+    @Max(value = 100, message = "At most 100 ad spaces can be booked together")
+    private Integer adSpaces;
+
+    @NotNull(message = "Window length is required")
+    @Min(value = 7, message = "Minimum booking duration is 7 days")
+    private Integer windowDays;
+
+    @NotNull(message = "Earliest start date is required")
+    @Future(message = "Earliest start date must be in the future")
+    private LocalDate earliestStart;
+
+    @NotNull(message = "Latest end date is required")
+    private LocalDate latestEnd;
+
+    @Positive(message = "Budget must be positive")
+    private BigDecimal maxBudget;
+
+    @Min(value = 1, message = "At least one result must be requested")
+    @Max(value = 50, message = "At most 50 results can be requested")
+    private Integer maxResults;
+}
@@ -0,0 +1,21 @@
+package com.generatik.adspace.dto.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CampaignSearchResultDto {
+    // Cheapest first
+    private List<CampaignOptionDto> options;
+    private int candidates;
+    private int windows;
+    // False when the search ran out of time or hit the candidate cap; the options are then the best among those searched
+    private boolean complete;
+}
@@ -0,0 +1,27 @@
+package com.generatik.adspace.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.generatik.adspace.entity.BookingEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingEventDto {
+    // Outbox row id: fixed when the event is written, so it identifies the event across re-publication
+    private Long id;
+    private Long offset;
+    private BookingEventType type;
+    private Long bookingId;
+    private LocalDateTime occurredAt;
+
+    // Booking snapshot as stored in the outbox; written out as JSON without re-parsing
+    @JsonRawValue
+    private String booking;
+}
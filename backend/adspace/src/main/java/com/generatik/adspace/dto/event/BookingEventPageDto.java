@@ -0,0 +1,17 @@
+package com.generatik.adspace.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingEventPageDto {
+    private List<BookingEventDto> items;
+    private long nextOffset;
+}
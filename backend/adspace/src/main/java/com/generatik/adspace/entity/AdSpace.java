@@ -1,7 +1,10 @@
 package com.generatik.adspace.entity;
 
+import com.generatik.adspace.event.AdSpaceChangePublisher;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -9,6 +12,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "adSpace")
+@EntityListeners(AdSpaceChangePublisher.class)
 @Table(
     name = "ad_space",
     indexes = {
@@ -44,6 +50,11 @@ public class AdSpace {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal pricePerDay;
 
+    // WGS84 coordinates in degrees; optional, both or neither
+    private Double latitude;
+
+    private Double longitude;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private AdSpaceStatus status;
@@ -0,0 +1,55 @@
+package com.generatik.adspace.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Approved booking days and revenue of one ad space in one day, week or month, maintained incrementally as
+ * bookings are approved. Revenue is spread over the booked days, so a booking spanning two buckets counts
+ * towards both in proportion.
+ */
+@Entity
+@Table(
+    name = "ad_space_rollup",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_ad_space_rollup_bucket", columnNames = {"ad_space_id", "granularity", "bucket_start"}),
+    indexes = {
+        @Index(name = "idx_ad_space_rollup_bucket", columnList = "granularity, bucket_start")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdSpaceRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ad_space_rollup_seq")
+    @SequenceGenerator(name = "ad_space_rollup_seq", sequenceName = "ad_space_rollup_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "ad_space_id", nullable = false)
+    private Long adSpaceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private RollupGranularity granularity;
+
+    @Column(nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(nullable = false)
+    private int bookedDays;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    public void add(int days, BigDecimal amount) {
+        bookedDays += days;
+        revenue = revenue.add(amount);
+    }
+}
@@ -0,0 +1,7 @@
+package com.generatik.adspace.entity;
+
+public enum BookingEventType {
+    BOOKING_CREATED,
+    BOOKING_APPROVED,
+    BOOKING_REJECTED
+}
@@ -6,12 +6,15 @@ import lombok.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(
     name = "booking_request",
     indexes = {
-        @Index(name = "idx_booking_composite", columnList = "ad_space_id, status, start_date, end_date")
+        @Index(name = "idx_booking_composite", columnList = "ad_space_id, status, start_date, end_date"),
+        @Index(name = "idx_booking_created", columnList = "created_at, id"),
+        @Index(name = "idx_booking_status_created", columnList = "status, created_at, id")
     }
 )
 @Getter
@@ -21,8 +24,10 @@ import java.time.LocalDateTime;
 @Builder
 public class BookingRequest {
 
+    // Sequence ids with a pooled optimizer let Hibernate batch inserts; IDENTITY would force one round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_request_seq")
+    @SequenceGenerator(name = "booking_request_seq", sequenceName = "booking_request_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -53,7 +58,8 @@ public class BookingRequest {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // Match the database's microsecond precision so keyset cursors compare exactly
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
 
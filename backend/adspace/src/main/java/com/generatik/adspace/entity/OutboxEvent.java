@@ -0,0 +1,60 @@
+package com.generatik.adspace.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * A booking state change recorded in the same transaction as the change itself. The relay assigns
+ * {@code streamOffset} when it publishes the event, so offsets follow publication order without gaps
+ * even when transactions commit out of id order.
+ */
+@Entity
+@Table(
+    name = "outbox_event",
+    indexes = {
+        @Index(name = "idx_outbox_stream_offset", columnList = "stream_offset", unique = true),
+        @Index(name = "idx_outbox_published", columnList = "published_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private BookingEventType type;
+
+    @Column(nullable = false)
+    private Long bookingId;
+
+    // Booking snapshot as JSON, written once and relayed verbatim
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private Long streamOffset;
+
+    // Two relays claiming the same event: the second one's update fails instead of renumbering it
+    @Version
+    private Long version;
+
+    private LocalDateTime publishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,36 @@
+package com.generatik.adspace.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size of the analytics rollups. Weeks are ISO weeks starting on Monday.
+ */
+public enum RollupGranularity {
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * First day of the bucket containing {@code day}.
+     */
+    public LocalDate bucketStart(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * First day of the bucket after the one starting on {@code bucketStart}.
+     */
+    public LocalDate nextBucket(LocalDate bucketStart) {
+        return switch (this) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+}
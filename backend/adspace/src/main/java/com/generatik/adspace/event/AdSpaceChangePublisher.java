@@ -0,0 +1,34 @@
+package com.generatik.adspace.event;
+
+import com.generatik.adspace.entity.AdSpace;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener that turns every ad space write into an {@link AdSpaceChangedEvent}.
+ * Hibernate obtains it from the Spring bean container, so its dependencies are injected.
+ */
+@RequiredArgsConstructor
+public class AdSpaceChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    void onChange(AdSpace adSpace) {
+        publish(adSpace, false);
+    }
+
+    @PostRemove
+    void onRemove(AdSpace adSpace) {
+        publish(adSpace, true);
+    }
+
+    private void publish(AdSpace adSpace, boolean removed) {
+        eventPublisher.publishEvent(new AdSpaceChangedEvent(
+                adSpace.getId(), adSpace.getType(), adSpace.getCity(), adSpace.getStatus(), removed));
+    }
+}
@@ -0,0 +1,10 @@
+package com.generatik.adspace.event;
+
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+
+/**
+ * Published whenever an ad space is created, updated or deleted, carrying its current type, city and status.
+ */
+public record AdSpaceChangedEvent(Long adSpaceId, AdSpaceType type, String city, AdSpaceStatus status, boolean removed) {
+}
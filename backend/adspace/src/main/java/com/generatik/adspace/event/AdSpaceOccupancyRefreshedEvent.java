@@ -0,0 +1,10 @@
+package com.generatik.adspace.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published after ad space statuses were moved in bulk for {@code day}. Bulk updates bypass the entity
+ * listener, so this event stands in for the per-entity {@link AdSpaceChangedEvent}s.
+ */
+public record AdSpaceOccupancyRefreshedEvent(LocalDate day, int occupied, int vacated) {
+}
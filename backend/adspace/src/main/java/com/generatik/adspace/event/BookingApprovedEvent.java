@@ -0,0 +1,9 @@
+package com.generatik.adspace.event;
+
+import java.time.LocalDate;
+
+/**
+ * Published when a booking is approved, making its date range unavailable on the ad space.
+ */
+public record BookingApprovedEvent(Long bookingId, Long adSpaceId, LocalDate startDate, LocalDate endDate) {
+}
@@ -1,8 +1,30 @@
 package com.generatik.adspace.exception;
 
 public class BusinessValidationException extends RuntimeException {
+
+    private final Reason reason;
+
     public BusinessValidationException(String message) {
+        this(Reason.INVALID_REQUEST, message);
+    }
+
+    public BusinessValidationException(Reason reason, String message) {
         super(message);
+        this.reason = reason;
     }
-}
 
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Why a request was rejected; used to tag rejection metrics.
+     */
+    public enum Reason {
+        INVALID_REQUEST,
+        INVALID_DATES,
+        AD_SPACE_UNAVAILABLE,
+        OVERLAPPING_BOOKING,
+        INVALID_STATUS
+    }
+}
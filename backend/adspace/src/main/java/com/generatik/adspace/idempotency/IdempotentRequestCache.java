@@ -0,0 +1,109 @@
+package com.generatik.adspace.idempotency;
+
+import com.generatik.adspace.exception.BusinessValidationException;
+import com.generatik.adspace.exception.ConflictException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the outcome of requests sent with an {@code Idempotency-Key}, so client retries get the original
+ * response back instead of executing again. Entries are kept in a bounded, expiring in-memory cache.
+ * <p>
+ * The first request for a key registers a future before executing; duplicates that arrive while it runs wait
+ * on that future, so concurrent retries coalesce onto one execution. A duplicate that waits longer than
+ * {@code adspace.idempotency.wait-timeout} gets a conflict and can retry later. A failed execution is forgotten,
+ * so the client can retry it, and a key reused with a different request body is rejected.
+ */
+@Component
+public class IdempotentRequestCache {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> entries;
+    private final Duration waitTimeout;
+
+    public IdempotentRequestCache(
+            @Value("${adspace.idempotency.maximum-size:100000}") long maximumSize,
+            @Value("${adspace.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${adspace.idempotency.wait-timeout:PT10S}") Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Run {@code action} once per key, or return the result of the execution already registered for it.
+     *
+     * @param key     client-supplied idempotency key
+     * @param request the request the key was sent with; a replay must carry an equal request
+     * @param action  the operation to run on first use of the key
+     * @return the result, and whether it was replayed from an earlier execution
+     * @throws BusinessValidationException if the key is blank, too long, or was used for a different request
+     * @throws ConflictException if the execution registered for the key is still running after the wait timeout
+     */
+    public <T> Outcome<T> execute(String key, Object request, Supplier<T> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessValidationException(HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        Entry created = new Entry(request, new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            if (!Objects.equals(existing.request(), request)) {
+                throw new BusinessValidationException(HEADER + " has already been used for a different request");
+            }
+            return new Outcome<>(await(existing), true);
+        }
+
+        try {
+            T result = action.get();
+            created.result().complete(result);
+            return new Outcome<>(result, false);
+        } catch (Throwable e) {
+            // Let waiting duplicates see the same failure, errors included, but allow a later retry to run again
+            entries.asMap().remove(key, created);
+            created.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(Entry entry) {
+        try {
+            return (T) entry.result().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ConflictException("A request with this " + HEADER + " is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("A request with this " + HEADER + " is still in progress");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Entry(Object request, CompletableFuture<Object> result) {
+    }
+
+    public record Outcome<T>(T value, boolean replayed) {
+    }
+}
@@ -0,0 +1,255 @@
+package com.generatik.adspace.index;
+
+import com.generatik.adspace.dto.booking.BookingIntervalDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory index of APPROVED booking date ranges, keyed by ad space id.
+ * <p>
+ * Each ad space holds an immutable array of intervals sorted by start date together with a
+ * running maximum of end dates, so an overlap check is a single binary search. Writers replace
+ * the array (copy-on-write); readers never block.
+ * <p>
+ * Additions made inside a transaction are visible immediately and are undone if the transaction
+ * rolls back. The index may therefore briefly report a conflict for an approval that is never
+ * committed, but it never misses a committed one, including while it is rebuilt or reconciled.
+ */
+@Component
+public class ApprovedBookingIndex {
+
+    private final ConcurrentHashMap<Long, IntervalSet> intervalsByAdSpace = new ConcurrentHashMap<>();
+    private final Set<Long> inFlightBookingIds = ConcurrentHashMap.newKeySet();
+    private final Object snapshotLock = new Object();
+    private volatile Set<Long> addedDuringSnapshot;
+    private volatile boolean initialized;
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    /**
+     * Check whether an indexed booking overlaps the given range (both ends inclusive).
+     */
+    public boolean hasOverlap(Long adSpaceId, LocalDate startDate, LocalDate endDate) {
+        IntervalSet intervals = intervalsByAdSpace.get(adSpaceId);
+        return intervals != null && intervals.overlaps(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * Add an approved booking. When called inside a transaction, the entry is removed again if
+     * the transaction does not commit.
+     */
+    public void add(Long bookingId, Long adSpaceId, LocalDate startDate, LocalDate endDate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            inFlightBookingIds.add(bookingId);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    inFlightBookingIds.remove(bookingId);
+                    if (status != STATUS_COMMITTED) {
+                        remove(bookingId, adSpaceId);
+                    }
+                }
+            });
+        }
+        // Checked after the in-flight mark: a rebuild that starts in between copies the mark instead
+        Set<Long> added = addedDuringSnapshot;
+        if (added != null) {
+            added.add(bookingId);
+        }
+
+        Interval interval = new Interval(bookingId, startDate.toEpochDay(), endDate.toEpochDay());
+        intervalsByAdSpace.compute(adSpaceId, (id, current) ->
+                current == null ? IntervalSet.of(interval) : current.with(interval));
+    }
+
+    public void remove(Long bookingId, Long adSpaceId) {
+        intervalsByAdSpace.computeIfPresent(adSpaceId, (id, current) -> current.without(bookingId));
+    }
+
+    /**
+     * Replace the whole index with a snapshot of approved bookings and mark it as initialized.
+     * Bookings added while the snapshot is read are kept, as for {@link #reconcile}.
+     */
+    public void rebuild(Supplier<? extends Collection<BookingIntervalDto>> snapshot) {
+        reconcile(snapshot);
+    }
+
+    /**
+     * Bring the index in line with a snapshot of approved bookings read from the database.
+     * Missing bookings are added; stale ones are removed unless the snapshot could not see them: bookings
+     * whose approving transaction was in flight when the snapshot started or is still in flight, and bookings
+     * added while the snapshot was read. The snapshot must be read after this method is called.
+     *
+     * @return number of entries that had to be added or removed
+     */
+    public int reconcile(Supplier<? extends Collection<BookingIntervalDto>> snapshot) {
+        synchronized (snapshotLock) {
+            Set<Long> protectedIds = ConcurrentHashMap.newKeySet();
+            addedDuringSnapshot = protectedIds;
+            try {
+                // After publishing the set, so a concurrent add is caught by one or the other
+                protectedIds.addAll(inFlightBookingIds);
+                Map<Long, List<Interval>> expected = group(snapshot.get());
+
+                int[] corrections = {0};
+                Set<Long> adSpaceIds = new HashSet<>(expected.keySet());
+                adSpaceIds.addAll(intervalsByAdSpace.keySet());
+                for (Long adSpaceId : adSpaceIds) {
+                    List<Interval> wanted = expected.getOrDefault(adSpaceId, List.of());
+                    // Atomic per ad space, so an addition to it lands either before (and is kept) or after
+                    intervalsByAdSpace.compute(adSpaceId, (id, current) -> {
+                        Set<Long> wantedIds = new HashSet<>();
+                        wanted.forEach(interval -> wantedIds.add(interval.bookingId()));
+                        List<Interval> next = new ArrayList<>(wanted);
+                        Set<Long> currentIds = new HashSet<>();
+                        if (current != null) {
+                            for (Interval interval : current.intervals) {
+                                currentIds.add(interval.bookingId());
+                                if (wantedIds.contains(interval.bookingId())) {
+                                    continue;
+                                }
+                                if (protectedIds.contains(interval.bookingId())
+                                        || inFlightBookingIds.contains(interval.bookingId())) {
+                                    next.add(interval);
+                                } else {
+                                    corrections[0]++;
+                                }
+                            }
+                        }
+                        corrections[0] += (int) wantedIds.stream().filter(bookingId -> !currentIds.contains(bookingId)).count();
+                        return next.isEmpty() ? null : IntervalSet.of(next);
+                    });
+                }
+                initialized = true;
+                return corrections[0];
+            } finally {
+                addedDuringSnapshot = null;
+            }
+        }
+    }
+
+    public int size() {
+        return intervalsByAdSpace.values().stream().mapToInt(IntervalSet::size).sum();
+    }
+
+    private static Map<Long, List<Interval>> group(Collection<BookingIntervalDto> intervals) {
+        Map<Long, List<Interval>> grouped = new HashMap<>();
+        for (BookingIntervalDto dto : intervals) {
+            grouped.computeIfAbsent(dto.getAdSpaceId(), id -> new ArrayList<>())
+                    .add(new Interval(dto.getBookingId(),
+                            dto.getStartDate().toEpochDay(), dto.getEndDate().toEpochDay()));
+        }
+        return grouped;
+    }
+
+    private record Interval(long bookingId, long start, long end) {
+    }
+
+    /**
+     * Immutable intervals of one ad space, sorted by start day. {@code maxEnd[i]} is the latest
+     * end day among intervals {@code 0..i}, which makes the overlap test O(log n) even when
+     * intervals overlap each other.
+     */
+    private static final class IntervalSet {
+
+        private final Interval[] intervals;
+        private final long[] starts;
+        private final long[] maxEnd;
+
+        private IntervalSet(Interval[] sorted) {
+            this.intervals = sorted;
+            this.starts = new long[sorted.length];
+            this.maxEnd = new long[sorted.length];
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < sorted.length; i++) {
+                starts[i] = sorted[i].start();
+                max = Math.max(max, sorted[i].end());
+                maxEnd[i] = max;
+            }
+        }
+
+        static IntervalSet of(Interval interval) {
+            return new IntervalSet(new Interval[]{interval});
+        }
+
+        static IntervalSet of(List<Interval> unsorted) {
+            Interval[] sorted = unsorted.toArray(new Interval[0]);
+            Arrays.sort(sorted, (a, b) -> Long.compare(a.start(), b.start()));
+            return new IntervalSet(sorted);
+        }
+
+        boolean overlaps(long start, long end) {
+            // last interval starting on or before the requested end
+            int idx = upperBound(end) - 1;
+            return idx >= 0 && maxEnd[idx] >= start;
+        }
+
+        boolean contains(long bookingId) {
+            for (Interval interval : intervals) {
+                if (interval.bookingId() == bookingId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int size() {
+            return intervals.length;
+        }
+
+        IntervalSet with(Interval interval) {
+            IntervalSet base = contains(interval.bookingId()) ? without(interval.bookingId()) : this;
+            if (base == null) {
+                return of(interval);
+            }
+            int pos = base.upperBound(interval.start());
+            Interval[] next = new Interval[base.intervals.length + 1];
+            System.arraycopy(base.intervals, 0, next, 0, pos);
+            next[pos] = interval;
+            System.arraycopy(base.intervals, pos, next, pos + 1, base.intervals.length - pos);
+            return new IntervalSet(next);
+        }
+
+        /**
+         * @return the set without the booking, or {@code null} when it becomes empty
+         */
+        IntervalSet without(long bookingId) {
+            Interval[] next = Arrays.stream(intervals)
+                    .filter(i -> i.bookingId() != bookingId)
+                    .toArray(Interval[]::new);
+            if (next.length == intervals.length) {
+                return this;
+            }
+            return next.length == 0 ? null : new IntervalSet(next);
+        }
+
+        private int upperBound(long value) {
+            int lo = 0;
+            int hi = starts.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (starts[mid] <= value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.generatik.adspace.index;
+
+import com.generatik.adspace.dto.booking.BookingIntervalDto;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Keeps {@link ApprovedBookingIndex} in line with the database, which remains the source of truth:
+ * the index is built once the application is ready and periodically verified afterwards.
+ */
+@Slf4j
+@Component
+public class ApprovedBookingIndexLoader {
+
+    private final ApprovedBookingIndex approvedBookingIndex;
+    private final BookingRequestRepository bookingRequestRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ApprovedBookingIndexLoader(
+            ApprovedBookingIndex approvedBookingIndex,
+            BookingRequestRepository bookingRequestRepository,
+            PlatformTransactionManager transactionManager) {
+        this.approvedBookingIndex = approvedBookingIndex;
+        this.bookingRequestRepository = bookingRequestRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        approvedBookingIndex.rebuild(this::readApproved);
+        log.info("Approved booking index built with {} bookings", approvedBookingIndex.size());
+    }
+
+    @Scheduled(
+            initialDelayString = "${adspace.booking-index.verify-interval:PT10M}",
+            fixedDelayString = "${adspace.booking-index.verify-interval:PT10M}")
+    public void verify() {
+        int corrections = approvedBookingIndex.reconcile(this::readApproved);
+        if (corrections > 0) {
+            log.warn("Approved booking index was out of sync with the database; corrected {} entries", corrections);
+        }
+    }
+
+    /**
+     * Read-write so the snapshot comes from the primary: a lagging replica would miss recent approvals,
+     * which the index would then drop.
+     */
+    private List<BookingIntervalDto> readApproved() {
+        return transactionTemplate.execute(status -> bookingRequestRepository.findIntervalsByStatus(BookingStatus.APPROVED));
+    }
+}
@@ -0,0 +1,176 @@
+package com.generatik.adspace.index;
+
+import com.generatik.adspace.dto.booking.BookingIntervalDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory day bitmaps of APPROVED bookings, one per ad space, over a rolling horizon of
+ * {@code adspace.calendar.horizon-days} starting on the day of the last rebuild. Bit {@code i} is set when day
+ * {@code origin + i} is booked; two years fit in a dozen longs per ad space.
+ * <p>
+ * Bitmaps are replaced on write (copy-on-write), so readers never block. Approvals are applied once committed,
+ * and a rebuild re-applies the approvals that arrive while it reads its snapshot, so none is lost to the swap.
+ * Only approvals committed by this instance are applied as they happen; {@link #reconcile} picks up the rest.
+ */
+@Component
+public class AvailabilityCalendar {
+
+    private final int horizonDays;
+    private final Object rebuildLock = new Object();
+    private volatile Days days;
+    private List<BookingIntervalDto> approvedDuringRebuild;
+
+    public AvailabilityCalendar(@Value("${adspace.calendar.horizon-days:731}") int horizonDays) {
+        this.horizonDays = horizonDays;
+        this.days = new Days(LocalDate.now(), horizonDays);
+    }
+
+    public boolean isInitialized() {
+        return days.initialized;
+    }
+
+    /**
+     * Whether {@code [from, to]} lies within the horizon, so {@link #occupiedDays} can answer it.
+     */
+    public boolean covers(LocalDate from, LocalDate to) {
+        Days current = days;
+        return current.initialized && current.index(from) >= 0 && current.index(to) < horizonDays;
+    }
+
+    /**
+     * Booked days of {@code [from, to]} (within the horizon) as bits, bit {@code i} standing for day {@code from + i}.
+     */
+    public BitSet occupiedDays(Long adSpaceId, LocalDate from, LocalDate to) {
+        Days current = days;
+        long[] words = current.bitmaps.get(adSpaceId);
+        if (words == null) {
+            return new BitSet();
+        }
+        return BitSet.valueOf(words).get(current.index(from), current.index(to) + 1);
+    }
+
+    /**
+     * Mark a committed approval's days as booked.
+     */
+    public synchronized void occupy(Long bookingId, Long adSpaceId, LocalDate startDate, LocalDate endDate) {
+        BookingIntervalDto interval = new BookingIntervalDto(bookingId, adSpaceId, startDate, endDate);
+        days.occupy(interval);
+        if (approvedDuringRebuild != null) {
+            approvedDuringRebuild.add(interval);
+        }
+    }
+
+    /**
+     * Replace every bitmap with ones built from a snapshot of approved bookings, with the horizon starting at
+     * {@code origin}. The snapshot must be read from the primary after this method is called.
+     */
+    public void rebuild(LocalDate origin, Supplier<? extends Collection<BookingIntervalDto>> snapshot) {
+        synchronized (rebuildLock) {
+            replace(origin, snapshot);
+        }
+    }
+
+    /**
+     * Rebuild over the current horizon from a snapshot of approved bookings ending on or after its first day, to
+     * pick up approvals committed elsewhere, such as on other instances. Does nothing before the first rebuild.
+     *
+     * @param snapshot Reads the approved bookings ending on or after the given day, from the primary
+     * @return Number of ad spaces whose bitmap was corrected
+     */
+    public int reconcile(Function<LocalDate, ? extends Collection<BookingIntervalDto>> snapshot) {
+        synchronized (rebuildLock) {
+            Days current = days;
+            if (!current.initialized) {
+                return 0;
+            }
+            LocalDate origin = LocalDate.ofEpochDay(current.origin);
+            Days next = replace(origin, () -> snapshot.apply(origin));
+            Set<Long> adSpaceIds = new HashSet<>(current.bitmaps.keySet());
+            adSpaceIds.addAll(next.bitmaps.keySet());
+            // Approvals applied while the snapshot is read land in both, so this counts what the snapshot corrected
+            return (int) adSpaceIds.stream()
+                    .filter(id -> !Arrays.equals(current.bitmaps.get(id), next.bitmaps.get(id)))
+                    .count();
+        }
+    }
+
+    private Days replace(LocalDate origin, Supplier<? extends Collection<BookingIntervalDto>> snapshot) {
+        synchronized (this) {
+            approvedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            Days next = new Days(origin, horizonDays);
+            snapshot.get().forEach(next::occupy);
+            synchronized (this) {
+                approvedDuringRebuild.forEach(next::occupy);
+                next.initialized = true;
+                days = next;
+            }
+            return next;
+        } finally {
+            synchronized (this) {
+                approvedDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * Booked days of {@code [from, to]} computed straight from approved bookings, for ranges outside the horizon
+     * or before the first rebuild. Same bit layout as {@link #occupiedDays}.
+     */
+    public static BitSet occupiedDays(Collection<BookingIntervalDto> intervals, LocalDate from, LocalDate to) {
+        BitSet bits = new BitSet();
+        for (BookingIntervalDto interval : intervals) {
+            LocalDate start = interval.getStartDate().isBefore(from) ? from : interval.getStartDate();
+            LocalDate end = interval.getEndDate().isAfter(to) ? to : interval.getEndDate();
+            if (!start.isAfter(end)) {
+                bits.set((int) (start.toEpochDay() - from.toEpochDay()), (int) (end.toEpochDay() - from.toEpochDay()) + 1);
+            }
+        }
+        return bits;
+    }
+
+    private static final class Days {
+
+        private final long origin;
+        private final int horizonDays;
+        private final Map<Long, long[]> bitmaps = new ConcurrentHashMap<>();
+        private volatile boolean initialized;
+
+        Days(LocalDate origin, int horizonDays) {
+            this.origin = origin.toEpochDay();
+            this.horizonDays = horizonDays;
+        }
+
+        int index(LocalDate day) {
+            return (int) Math.max(-1, Math.min(horizonDays, day.toEpochDay() - origin));
+        }
+
+        void occupy(BookingIntervalDto interval) {
+            int first = Math.max(0, index(interval.getStartDate()));
+            int last = Math.min(horizonDays - 1, index(interval.getEndDate()));
+            if (first > last) {
+                return;
+            }
+            bitmaps.compute(interval.getAdSpaceId(), (id, words) -> {
+                BitSet bits = words == null ? new BitSet(horizonDays) : BitSet.valueOf(words);
+                bits.set(first, last + 1);
+                return bits.toLongArray();
+            });
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.generatik.adspace.index;
+
+import com.generatik.adspace.dto.booking.BookingIntervalDto;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.event.BookingApprovedEvent;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps {@link AvailabilityCalendar} in line with the database: built once the application is ready, rebuilt
+ * daily so the horizon rolls forward, and updated as approvals commit. Approvals committed by other instances are
+ * only seen by the periodic reconcile.
+ */
+@Slf4j
+@Component
+public class AvailabilityCalendarLoader {
+
+    private final AvailabilityCalendar availabilityCalendar;
+    private final BookingRequestRepository bookingRequestRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public AvailabilityCalendarLoader(
+            AvailabilityCalendar availabilityCalendar,
+            BookingRequestRepository bookingRequestRepository,
+            PlatformTransactionManager transactionManager) {
+        this.availabilityCalendar = availabilityCalendar;
+        this.bookingRequestRepository = bookingRequestRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${adspace.calendar.rebuild-cron:0 5 0 * * *}")
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        // Read-write so the snapshot comes from the primary: a lagging replica could miss approvals already applied
+        availabilityCalendar.rebuild(today, () -> transactionTemplate.execute(status ->
+                bookingRequestRepository.findIntervalsByStatusEndingFrom(BookingStatus.APPROVED, today)));
+        log.info("Availability calendar built from {}", today);
+    }
+
+    @Scheduled(
+            initialDelayString = "${adspace.calendar.verify-interval:PT10M}",
+            fixedDelayString = "${adspace.calendar.verify-interval:PT10M}")
+    public void verify() {
+        int corrections = availabilityCalendar.reconcile(origin -> transactionTemplate.execute(status ->
+                bookingRequestRepository.findIntervalsByStatusEndingFrom(BookingStatus.APPROVED, origin)));
+        if (corrections > 0) {
+            log.info("Availability calendar picked up approvals made elsewhere for {} ad spaces", corrections);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingApproved(BookingApprovedEvent event) {
+        availabilityCalendar.occupy(event.bookingId(), event.adSpaceId(), event.startDate(), event.endDate());
+    }
+}
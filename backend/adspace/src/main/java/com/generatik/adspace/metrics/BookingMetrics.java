@@ -0,0 +1,74 @@
+package com.generatik.adspace.metrics;
+
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.exception.BusinessValidationException;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Booking lifecycle meters that are not covered by the {@code @Timed} service timers or the Spring Data
+ * repository timers:
+ * <ul>
+ *   <li>{@code adspace.rejections}: rejected requests, tagged by {@link BusinessValidationException.Reason}</li>
+ *   <li>{@code adspace.booking.pending}: number of bookings waiting for a decision</li>
+ *   <li>{@code adspace.booking.pending.oldest.age}: how long the oldest of them has been waiting</li>
+ * </ul>
+ * Counters are resolved once per reason up front, and the pending gauges read values refreshed in the
+ * background, so neither the request path nor a scrape runs any extra query.
+ */
+@Component
+public class BookingMetrics {
+
+    private final BookingRequestRepository bookingRequestRepository;
+    private final Map<BusinessValidationException.Reason, Counter> rejections =
+            new EnumMap<>(BusinessValidationException.Reason.class);
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public BookingMetrics(MeterRegistry meterRegistry, BookingRequestRepository bookingRequestRepository) {
+        this.bookingRequestRepository = bookingRequestRepository;
+
+        for (BusinessValidationException.Reason reason : BusinessValidationException.Reason.values()) {
+            rejections.put(reason, Counter.builder("adspace.rejections")
+                    .description("Requests rejected by business validation")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder("adspace.booking.pending", pendingCount, AtomicLong::get)
+                .description("Bookings waiting for approval or rejection")
+                .register(meterRegistry);
+        Gauge.builder("adspace.booking.pending.oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("Time the oldest pending booking has been waiting")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void recordRejection(BusinessValidationException exception) {
+        recordRejection(exception.getReason());
+    }
+
+    public void recordRejection(BusinessValidationException.Reason reason) {
+        rejections.get(reason).increment();
+    }
+
+    @Scheduled(
+            initialDelayString = "${adspace.metrics.pending-refresh-interval:PT30S}",
+            fixedDelayString = "${adspace.metrics.pending-refresh-interval:PT30S}")
+    public void refreshPending() {
+        pendingCount.set(bookingRequestRepository.countByStatus(BookingStatus.PENDING));
+        oldestPendingAgeSeconds.set(bookingRequestRepository.findOldestCreatedAtByStatus(BookingStatus.PENDING)
+                .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toSeconds())
+                .orElse(0L));
+    }
+}
@@ -0,0 +1,53 @@
+package com.generatik.adspace.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.entity.BookingEventType;
+import com.generatik.adspace.entity.OutboxEvent;
+import com.generatik.adspace.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Records booking state changes in the outbox table. Must run inside the transaction that makes the change,
+ * so an event exists if and only if the change commits.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class BookingEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public void record(BookingEventType type, BookingResponseDto booking) {
+        outboxEventRepository.save(toEvent(type, booking));
+    }
+
+    public void recordAll(BookingEventType type, Collection<BookingResponseDto> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        // Inserted with the pooled sequence, so they go out as JDBC batches at flush
+        List<OutboxEvent> events = bookings.stream().map(booking -> toEvent(type, booking)).toList();
+        outboxEventRepository.saveAll(events);
+    }
+
+    private OutboxEvent toEvent(BookingEventType type, BookingResponseDto booking) {
+        try {
+            return OutboxEvent.builder()
+                    .type(type)
+                    .bookingId(booking.getId())
+                    .payload(objectMapper.writeValueAsString(booking))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize booking " + booking.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.generatik.adspace.outbox;
+
+import com.generatik.adspace.dto.event.BookingEventDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Local stand-in for a message broker: keeps the most recent events in a bounded in-process buffer.
+ */
+@Component
+@ConditionalOnProperty(name = "adspace.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOutboxEventSink implements OutboxEventSink {
+
+    private final int capacity;
+    private final Deque<BookingEventDto> events = new ArrayDeque<>();
+
+    public InMemoryOutboxEventSink(@Value("${adspace.outbox.memory.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<BookingEventDto> batch) {
+        for (BookingEventDto event : batch) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    /**
+     * Buffered events after the given offset, oldest first.
+     */
+    public synchronized List<BookingEventDto> getEventsAfter(long offset) {
+        List<BookingEventDto> result = new ArrayList<>();
+        for (BookingEventDto event : events) {
+            if (event.getOffset() > offset) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,22 @@
+package com.generatik.adspace.outbox;
+
+import com.generatik.adspace.dto.event.BookingEventDto;
+
+import java.util.List;
+
+/**
+ * Destination the {@link OutboxRelay} publishes booking events to. Select one with {@code adspace.outbox.sink}.
+ * <p>
+ * Delivery is at least once: a batch is published before the relay commits its offsets, so a failure in
+ * between publishes the same events again. A retry assigns offsets afresh and may give an event a different one,
+ * so consumers should deduplicate on {@link BookingEventDto#getId()}, which is fixed when the event is written.
+ */
+public interface OutboxEventSink {
+
+    /**
+     * Publish a batch of events in offset order. Throwing leaves the batch unpublished to be retried.
+     *
+     * @param events Events with their assigned offsets
+     */
+    void publish(List<BookingEventDto> events);
+}
@@ -0,0 +1,118 @@
+package com.generatik.adspace.outbox;
+
+import com.generatik.adspace.dto.event.BookingEventDto;
+import com.generatik.adspace.entity.OutboxEvent;
+import com.generatik.adspace.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the outbox table to the configured {@link OutboxEventSink} in batches, assigning each event its
+ * stream offset as it is published. Each batch is its own transaction; if the sink fails the batch rolls
+ * back and is retried on the next run.
+ * <p>
+ * Offsets are unique and events are versioned, so a second relay running concurrently (e.g. another instance)
+ * fails its batch instead of handing out the same offsets twice or renumbering published events.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxEventSink sink,
+            PlatformTransactionManager transactionManager,
+            @Value("${adspace.outbox.batch-size:500}") int batchSize,
+            @Value("${adspace.outbox.retention:P7D}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    /**
+     * Publish every pending event, one batch at a time.
+     *
+     * @return number of events published
+     */
+    @Scheduled(
+            initialDelayString = "${adspace.outbox.relay-interval:PT1S}",
+            fixedDelayString = "${adspace.outbox.relay-interval:PT1S}")
+    public synchronized int relay() {
+        int total = 0;
+        int published;
+        do {
+            try {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                log.debug("Another relay claimed the outbox batch first; retrying on the next run");
+                break;
+            }
+            total += published;
+        } while (published == batchSize);
+
+        if (total > 0) {
+            log.debug("Relayed {} booking events", total);
+        }
+        return total;
+    }
+
+    @Scheduled(
+            initialDelayString = "${adspace.outbox.purge-interval:PT1H}",
+            fixedDelayString = "${adspace.outbox.purge-interval:PT1H}")
+    public void purge() {
+        int deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted > 0) {
+            log.info("Purged {} booking events published more than {} ago", deleted, retention);
+        }
+    }
+
+    private int publishBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findUnpublished(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        long offset = outboxEventRepository.findLastOffset();
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingEventDto> batch = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            event.setStreamOffset(++offset);
+            event.setPublishedAt(now);
+            batch.add(BookingEventDto.builder()
+                    .id(event.getId())
+                    .offset(event.getStreamOffset())
+                    .type(event.getType())
+                    .bookingId(event.getBookingId())
+                    .occurredAt(event.getCreatedAt())
+                    .booking(event.getPayload())
+                    .build());
+        }
+
+        // Claim the offsets first, then publish before commit: a crash in between re-publishes the batch
+        // rather than losing it
+        outboxEventRepository.flush();
+        sink.publish(batch);
+        return events.size();
+    }
+}
@@ -1,22 +1,168 @@
 package com.generatik.adspace.repository;
 
+import com.generatik.adspace.dto.adspace.AdSpaceSearchDocumentDto;
+import com.generatik.adspace.dto.analytics.AdSpaceGroupCountDto;
+import com.generatik.adspace.dto.campaign.CampaignCandidateDto;
 import com.generatik.adspace.entity.AdSpace;
 import com.generatik.adspace.entity.AdSpaceStatus;
 import com.generatik.adspace.entity.AdSpaceType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 
 @Repository
 public interface AdSpaceRepository extends JpaRepository<AdSpace, Long> {
 
+    /*
+     * Catalog finders go through the Hibernate query cache: it keeps the matching ids, the entities come from
+     * the second-level cache, and any write to ad_space (including bulk updates) invalidates the results.
+     */
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<AdSpace> findByStatus(AdSpaceStatus status);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<AdSpace> findByStatusAndType(AdSpaceStatus status, AdSpaceType type);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<AdSpace> findByStatusAndCity(AdSpaceStatus status, String city);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<AdSpace> findByStatusAndTypeAndCity(AdSpaceStatus status, AdSpaceType type, String city);
-}
 
+    /**
+     * Find bookable ad spaces with no APPROVED booking overlapping {@code [from, to]}, using a single
+     * anti-join. Ad spaces under maintenance are excluded; type and city filters are optional.
+     */
+    @Query("SELECT a FROM AdSpace a " +
+           "WHERE a.status <> com.generatik.adspace.entity.AdSpaceStatus.MAINTENANCE " +
+           "AND (:type IS NULL OR a.type = :type) " +
+           "AND (:city IS NULL OR a.city = :city) " +
+           "AND NOT EXISTS (SELECT 1 FROM BookingRequest br WHERE br.adSpace = a " +
+           "AND br.status = com.generatik.adspace.entity.BookingStatus.APPROVED " +
+           "AND date_ranges_overlap(br.startDate, br.endDate, :from, :to))")
+    Page<AdSpace> findAvailableBetween(
+        @Param("type") AdSpaceType type,
+        @Param("city") String city,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        Pageable pageable
+    );
+
+    /**
+     * Load an ad space and lock its row (SELECT ... FOR UPDATE) until the transaction ends.
+     * Booking changes on the same ad space are serialized on this lock; different ad spaces
+     * proceed in parallel.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AdSpace a WHERE a.id = :id")
+    Optional<AdSpace> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Lock several ad spaces at once. Rows are locked in id order so concurrent batches cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AdSpace a WHERE a.id IN :ids ORDER BY a.id")
+    List<AdSpace> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Lock the ad space a booking belongs to, before the booking itself is read.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AdSpace a WHERE a.id = " +
+           "(SELECT br.adSpace.id FROM BookingRequest br WHERE br.id = :bookingId)")
+    Optional<AdSpace> findByBookingIdForUpdate(@Param("bookingId") Long bookingId);
+
+    /**
+     * Lock the ad spaces of several bookings, in id order, before the bookings themselves are read.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AdSpace a WHERE a.id IN " +
+           "(SELECT br.adSpace.id FROM BookingRequest br WHERE br.id IN :bookingIds) ORDER BY a.id")
+    List<AdSpace> findAllByBookingIdInForUpdate(@Param("bookingIds") Collection<Long> bookingIds);
+
+    /**
+     * Bookable ad spaces as campaign candidates, cheapest first. Type and city filters are optional; the page caps
+     * how many are returned.
+     */
+    @Query("SELECT new com.generatik.adspace.dto.campaign.CampaignCandidateDto(a.id, a.name, a.pricePerDay) " +
+           "FROM AdSpace a " +
+           "WHERE a.status <> com.generatik.adspace.entity.AdSpaceStatus.MAINTENANCE " +
+           "AND (:type IS NULL OR a.type = :type) " +
+           "AND (:city IS NULL OR a.city = :city) " +
+           "ORDER BY a.pricePerDay, a.id")
+    List<CampaignCandidateDto> findCampaignCandidates(@Param("type") AdSpaceType type, @Param("city") String city,
+                                                       Pageable pageable);
+
+    @Query("SELECT a.id FROM AdSpace a ORDER BY a.id")
+    List<Long> findAllIds();
+
+    /**
+     * Selects ad spaces straight into search index documents.
+     */
+    String SEARCH_DOCUMENT_SELECT = "SELECT new com.generatik.adspace.dto.adspace.AdSpaceSearchDocumentDto(" +
+            "a.id, a.name, a.type, a.city, a.address, a.latitude, a.longitude) FROM AdSpace a ";
+
+    /**
+     * Every ad space as a search index document. Used to (re)build the search index.
+     */
+    @Query(SEARCH_DOCUMENT_SELECT + "ORDER BY a.id")
+    List<AdSpaceSearchDocumentDto> findAllSearchDocuments();
+
+    @Query(SEARCH_DOCUMENT_SELECT + "WHERE a.id = :id")
+    Optional<AdSpaceSearchDocumentDto> findSearchDocumentById(@Param("id") Long id);
+
+    /**
+     * Number of ad spaces per city, the denominator of occupancy rates by city.
+     */
+    @Query("SELECT new com.generatik.adspace.dto.analytics.AdSpaceGroupCountDto(a.city, COUNT(a)) " +
+           "FROM AdSpace a WHERE (:city IS NULL OR a.city = :city) AND (:type IS NULL OR a.type = :type) " +
+           "GROUP BY a.city")
+    List<AdSpaceGroupCountDto> countByCity(@Param("city") String city, @Param("type") AdSpaceType type);
+
+    /**
+     * Number of ad spaces per type, the denominator of occupancy rates by type.
+     */
+    @Query("SELECT new com.generatik.adspace.dto.analytics.AdSpaceGroupCountDto(str(a.type), COUNT(a)) " +
+           "FROM AdSpace a WHERE (:city IS NULL OR a.city = :city) AND (:type IS NULL OR a.type = :type) " +
+           "GROUP BY a.type")
+    List<AdSpaceGroupCountDto> countByType(@Param("city") String city, @Param("type") AdSpaceType type);
+
+    /**
+     * Mark AVAILABLE ad spaces as BOOKED when an APPROVED booking covers {@code day}, in one statement.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AdSpace a SET a.status = com.generatik.adspace.entity.AdSpaceStatus.BOOKED, a.updatedAt = :now " +
+           "WHERE a.status = com.generatik.adspace.entity.AdSpaceStatus.AVAILABLE " +
+           "AND EXISTS (SELECT 1 FROM BookingRequest br WHERE br.adSpace = a " +
+           "AND br.status = com.generatik.adspace.entity.BookingStatus.APPROVED " +
+           "AND br.startDate <= :day AND br.endDate >= :day)")
+    int markOccupiedOn(@Param("day") LocalDate day, @Param("now") LocalDateTime now);
+
+    /**
+     * Return BOOKED ad spaces to AVAILABLE when no APPROVED booking covers {@code day}, in one statement.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AdSpace a SET a.status = com.generatik.adspace.entity.AdSpaceStatus.AVAILABLE, a.updatedAt = :now " +
+           "WHERE a.status = com.generatik.adspace.entity.AdSpaceStatus.BOOKED " +
+           "AND NOT EXISTS (SELECT 1 FROM BookingRequest br WHERE br.adSpace = a " +
+           "AND br.status = com.generatik.adspace.entity.BookingStatus.APPROVED " +
+           "AND br.startDate <= :day AND br.endDate >= :day)")
+    int markVacantOn(@Param("day") LocalDate day, @Param("now") LocalDateTime now);
+}
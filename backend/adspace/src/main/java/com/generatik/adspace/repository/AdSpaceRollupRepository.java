@@ -0,0 +1,77 @@
+package com.generatik.adspace.repository;
+
+import com.generatik.adspace.dto.analytics.RollupTotalsDto;
+import com.generatik.adspace.entity.AdSpaceRollup;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AdSpaceRollupRepository extends JpaRepository<AdSpaceRollup, Long> {
+
+    /**
+     * Rollup rows of the given ad spaces in every granularity whose bucket starts within the range,
+     * loaded to be incremented in place.
+     */
+    @Query("SELECT r FROM AdSpaceRollup r WHERE r.adSpaceId IN :adSpaceIds " +
+           "AND r.bucketStart BETWEEN :from AND :to")
+    List<AdSpaceRollup> findByAdSpaceIdsAndBucketStartBetween(
+        @Param("adSpaceIds") Collection<Long> adSpaceIds,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+
+    @Modifying
+    @Query("DELETE FROM AdSpaceRollup r WHERE r.adSpaceId IN :adSpaceIds")
+    int deleteByAdSpaceIds(@Param("adSpaceIds") Collection<Long> adSpaceIds);
+
+    /*
+     * Totals per group and bucket, read off the rollups (one row per ad space and bucket) rather than the
+     * bookings. The optional city and type narrow the ad spaces considered.
+     */
+
+    String TOTALS_FROM = "FROM AdSpaceRollup r JOIN AdSpace a ON a.id = r.adSpaceId " +
+            "WHERE r.granularity = :granularity AND r.bucketStart BETWEEN :from AND :to " +
+            "AND (:city IS NULL OR a.city = :city) AND (:type IS NULL OR a.type = :type) ";
+
+    @Query("SELECT new com.generatik.adspace.dto.analytics.RollupTotalsDto(" +
+           "str(a.id), r.bucketStart, SUM(r.bookedDays), SUM(r.revenue)) " + TOTALS_FROM +
+           "GROUP BY a.id, r.bucketStart ORDER BY a.id, r.bucketStart")
+    List<RollupTotalsDto> sumByAdSpace(
+        @Param("granularity") RollupGranularity granularity,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        @Param("city") String city,
+        @Param("type") AdSpaceType type
+    );
+
+    @Query("SELECT new com.generatik.adspace.dto.analytics.RollupTotalsDto(" +
+           "a.city, r.bucketStart, SUM(r.bookedDays), SUM(r.revenue)) " + TOTALS_FROM +
+           "GROUP BY a.city, r.bucketStart ORDER BY a.city, r.bucketStart")
+    List<RollupTotalsDto> sumByCity(
+        @Param("granularity") RollupGranularity granularity,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        @Param("city") String city,
+        @Param("type") AdSpaceType type
+    );
+
+    @Query("SELECT new com.generatik.adspace.dto.analytics.RollupTotalsDto(" +
+           "str(a.type), r.bucketStart, SUM(r.bookedDays), SUM(r.revenue)) " + TOTALS_FROM +
+           "GROUP BY a.type, r.bucketStart ORDER BY a.type, r.bucketStart")
+    List<RollupTotalsDto> sumByType(
+        @Param("granularity") RollupGranularity granularity,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to,
+        @Param("city") String city,
+        @Param("type") AdSpaceType type
+    );
+}
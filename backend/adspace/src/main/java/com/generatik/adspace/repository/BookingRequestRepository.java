@@ -1,33 +1,251 @@
 package com.generatik.adspace.repository;
 
+import com.generatik.adspace.dto.booking.BookingIntervalDto;
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.entity.AdSpaceType;
 import com.generatik.adspace.entity.BookingRequest;
 import com.generatik.adspace.entity.BookingStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface BookingRequestRepository extends JpaRepository<BookingRequest, Long> {
 
     List<BookingRequest> findByStatus(BookingStatus status);
 
+    long countByStatus(BookingStatus status);
+
+    @Query("SELECT MIN(br.createdAt) FROM BookingRequest br WHERE br.status = :status")
+    Optional<LocalDateTime> findOldestCreatedAtByStatus(@Param("status") BookingStatus status);
+
+    /**
+     * Selects bookings straight into {@link BookingResponseDto} with the ad space joined in,
+     * so listing bookings is a single SQL statement regardless of how many ad spaces they span.
+     */
+    String DTO_SELECT = "SELECT new com.generatik.adspace.dto.booking.BookingResponseDto(" +
+            "br.id, a.id, a.name, br.advertiserName, br.advertiserEmail, " +
+            "br.startDate, br.endDate, br.status, br.totalCost, br.createdAt) " +
+            "FROM BookingRequest br JOIN br.adSpace a ";
+
+    @Query(DTO_SELECT + "WHERE br.id = :id")
+    Optional<BookingResponseDto> findDtoById(@Param("id") Long id);
+
+    @Query(DTO_SELECT + "ORDER BY br.id")
+    List<BookingResponseDto> findAllDtos();
+
+    @Query(DTO_SELECT + "WHERE br.id IN :ids")
+    List<BookingResponseDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(DTO_SELECT + "WHERE br.status = :status ORDER BY br.id")
+    List<BookingResponseDto> findDtosByStatus(@Param("status") BookingStatus status);
+
+    @Query(DTO_SELECT + "WHERE br.status = :status AND a.id IN :adSpaceIds")
+    List<BookingResponseDto> findDtosByStatusAndAdSpaceIds(
+        @Param("status") BookingStatus status,
+        @Param("adSpaceIds") Collection<Long> adSpaceIds
+    );
+
+    /**
+     * Keyset pagination over {@code (createdAt, id)}: the first page, and every page after a given key.
+     */
+    @Query(DTO_SELECT + "ORDER BY br.createdAt, br.id")
+    List<BookingResponseDto> findFirstPage(Limit limit);
+
+    @Query(DTO_SELECT + "WHERE br.status = :status ORDER BY br.createdAt, br.id")
+    List<BookingResponseDto> findFirstPageByStatus(@Param("status") BookingStatus status, Limit limit);
+
+    @Query(DTO_SELECT +
+           "WHERE br.createdAt > :createdAt OR (br.createdAt = :createdAt AND br.id > :id) " +
+           "ORDER BY br.createdAt, br.id")
+    List<BookingResponseDto> findPageAfter(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    @Query(DTO_SELECT + "WHERE br.status = :status " +
+           "AND (br.createdAt > :createdAt OR (br.createdAt = :createdAt AND br.id > :id)) " +
+           "ORDER BY br.createdAt, br.id")
+    List<BookingResponseDto> findPageAfterByStatus(
+        @Param("status") BookingStatus status,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    /**
+     * Stream all bookings in keyset order. Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(DTO_SELECT + "ORDER BY br.createdAt, br.id")
+    Stream<BookingResponseDto> streamAll();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(DTO_SELECT + "WHERE br.status = :status ORDER BY br.createdAt, br.id")
+    Stream<BookingResponseDto> streamByStatus(@Param("status") BookingStatus status);
+
+    /**
+     * Whether any booking in the given status on the ad space overlaps the date range (both ends inclusive).
+     * Reads at most one index entry instead of loading every overlapping booking.
+     */
+    default boolean existsOverlapping(Long adSpaceId, BookingStatus status, LocalDate startDate, LocalDate endDate) {
+        return !findOverlapMarkers(adSpaceId, status, startDate, endDate, Limit.of(1)).isEmpty();
+    }
+
     /**
-     * Find overlapping approved bookings for a given ad space and date range.
-     * Two bookings overlap if: (startDate1 <= endDate2) AND (endDate1 >= startDate2)
+     * Selects a constant rather than any column, so on PostgreSQL the overlap check is an index-only scan.
+     * See {@link DateRangeFunctionContributor} for how the overlap predicate is rendered.
      */
-    @Query("SELECT br FROM BookingRequest br WHERE br.adSpace.id = :adSpaceId " +
+    @Query("SELECT 1 FROM BookingRequest br WHERE br.adSpace.id = :adSpaceId " +
            "AND br.status = :status " +
-           "AND br.startDate <= :endDate " +
-           "AND br.endDate >= :startDate")
-    List<BookingRequest> findOverlappingBookings(
+           "AND date_ranges_overlap(br.startDate, br.endDate, :startDate, :endDate)")
+    List<Integer> findOverlapMarkers(
         @Param("adSpaceId") Long adSpaceId,
         @Param("status") BookingStatus status,
         @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        Limit limit
+    );
+
+    /**
+     * The PENDING bookings {@link #rejectOverlappingPending} would reject, read before the update so
+     * their rejection can be recorded.
+     */
+    @Query(DTO_SELECT + "WHERE a.id = :adSpaceId " +
+           "AND br.status = com.generatik.adspace.entity.BookingStatus.PENDING " +
+           "AND br.id <> :excludedId " +
+           "AND date_ranges_overlap(br.startDate, br.endDate, :startDate, :endDate) " +
+           "ORDER BY br.id")
+    List<BookingResponseDto> findOverlappingPendingDtos(
+        @Param("adSpaceId") Long adSpaceId,
+        @Param("excludedId") Long excludedId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * Reject, in a single UPDATE, every PENDING booking on the ad space that overlaps the given range,
+     * except the excluded booking. Pending changes are flushed first and the persistence context is
+     * cleared afterwards so no stale statuses remain in memory.
+     *
+     * @return number of bookings rejected
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BookingRequest br SET br.status = com.generatik.adspace.entity.BookingStatus.REJECTED " +
+           "WHERE br.adSpace.id = :adSpaceId " +
+           "AND br.status = com.generatik.adspace.entity.BookingStatus.PENDING " +
+           "AND br.id <> :excludedId " +
+           "AND date_ranges_overlap(br.startDate, br.endDate, :startDate, :endDate)")
+    int rejectOverlappingPending(
+        @Param("adSpaceId") Long adSpaceId,
+        @Param("excludedId") Long excludedId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * PENDING bookings on any of the ad spaces that overlap {@code [startDate, endDate]}: the candidates for
+     * auto-rejection when several bookings on those ad spaces are approved together.
+     */
+    @Query(DTO_SELECT + "WHERE a.id IN :adSpaceIds " +
+           "AND br.status = com.generatik.adspace.entity.BookingStatus.PENDING " +
+           "AND date_ranges_overlap(br.startDate, br.endDate, :startDate, :endDate) " +
+           "ORDER BY br.id")
+    List<BookingResponseDto> findPendingDtosOverlapping(
+        @Param("adSpaceIds") Collection<Long> adSpaceIds,
+        @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate
     );
+
+    /**
+     * Ids of the oldest PENDING bookings matching the optional criteria, in queue order.
+     */
+    @Query("SELECT br.id FROM BookingRequest br " +
+           "WHERE br.status = com.generatik.adspace.entity.BookingStatus.PENDING " +
+           "AND (:adSpaceId IS NULL OR br.adSpace.id = :adSpaceId) " +
+           "AND (:startDateFrom IS NULL OR br.startDate >= :startDateFrom) " +
+           "AND (:startDateTo IS NULL OR br.startDate <= :startDateTo) " +
+           "ORDER BY br.createdAt, br.id")
+    List<Long> findPendingIds(
+        @Param("adSpaceId") Long adSpaceId,
+        @Param("startDateFrom") LocalDate startDateFrom,
+        @Param("startDateTo") LocalDate startDateTo,
+        Limit limit
+    );
+
+    /**
+     * Move the given bookings from PENDING to {@code status} in a single UPDATE; bookings no longer
+     * PENDING are left alone. Pending changes are flushed first and the persistence context is cleared
+     * afterwards.
+     *
+     * @return number of bookings updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BookingRequest br SET br.status = :status " +
+           "WHERE br.id IN :ids AND br.status = com.generatik.adspace.entity.BookingStatus.PENDING")
+    int updatePendingStatus(@Param("ids") Collection<Long> ids, @Param("status") BookingStatus status);
+
+    /**
+     * Load the date ranges of all bookings in the given status without hydrating entities.
+     * Used to (re)build the in-memory approved booking index.
+     */
+    @Query("SELECT new com.generatik.adspace.dto.booking.BookingIntervalDto(" +
+           "br.id, br.adSpace.id, br.startDate, br.endDate) " +
+           "FROM BookingRequest br WHERE br.status = :status")
+    List<BookingIntervalDto> findIntervalsByStatus(@Param("status") BookingStatus status);
+
+    /**
+     * Date ranges of bookings in the given status that have not ended before {@code from}.
+     * Used to (re)build the availability calendar.
+     */
+    @Query("SELECT new com.generatik.adspace.dto.booking.BookingIntervalDto(" +
+           "br.id, br.adSpace.id, br.startDate, br.endDate) " +
+           "FROM BookingRequest br WHERE br.status = :status AND br.endDate >= :from")
+    List<BookingIntervalDto> findIntervalsByStatusEndingFrom(
+        @Param("status") BookingStatus status,
+        @Param("from") LocalDate from
+    );
+
+    @Query("SELECT new com.generatik.adspace.dto.booking.BookingIntervalDto(" +
+           "br.id, br.adSpace.id, br.startDate, br.endDate) " +
+           "FROM BookingRequest br WHERE br.status = :status AND br.adSpace.id IN :adSpaceIds")
+    List<BookingIntervalDto> findIntervalsByStatusAndAdSpaceIds(
+        @Param("status") BookingStatus status,
+        @Param("adSpaceIds") Collection<Long> adSpaceIds
+    );
+
+    /**
+     * Date ranges of bookings in the given status that overlap {@code [from, to]}, on ad spaces matching
+     * the optional type and city filters. Used by the campaign search when the availability calendar does
+     * not cover the searched range.
+     */
+    @Query("SELECT new com.generatik.adspace.dto.booking.BookingIntervalDto(" +
+           "br.id, a.id, br.startDate, br.endDate) " +
+           "FROM BookingRequest br JOIN br.adSpace a WHERE br.status = :status " +
+           "AND (:type IS NULL OR a.type = :type) " +
+           "AND (:city IS NULL OR a.city = :city) " +
+           "AND date_ranges_overlap(br.startDate, br.endDate, :from, :to)")
+    List<BookingIntervalDto> findIntervalsOverlapping(
+        @Param("status") BookingStatus status,
+        @Param("type") AdSpaceType type,
+        @Param("city") String city,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
 }
 
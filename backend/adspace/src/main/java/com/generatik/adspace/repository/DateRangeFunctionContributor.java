@@ -0,0 +1,29 @@
+package com.generatik.adspace.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the HQL function {@code date_ranges_overlap(start1, end1, start2, end2)}: true when the two
+ * inclusive date ranges share at least one day.
+ * <p>
+ * Everywhere it renders as the plain {@code start1 <= end2 AND end1 >= start2} comparison, served by
+ * {@code idx_booking_composite}. On PostgreSQL the comparison is followed by a {@code daterange} overlap
+ * ({@code &&}), which the GiST index from {@code db/postgresql/booking_overlap_gist.sql} answers directly when it
+ * exists; without that index the planner still has the plain bounds for the B-tree.
+ */
+public class DateRangeFunctionContributor implements FunctionContributor {
+
+    public static final String DATE_RANGES_OVERLAP = "date_ranges_overlap";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        String pattern = functionContributions.getDialect() instanceof PostgreSQLDialect
+                ? "(?1 <= ?4 and ?2 >= ?3 and daterange(?1, ?2, '[]') && daterange(?3, ?4, '[]'))"
+                : "(?1 <= ?4 and ?2 >= ?3)";
+        functionContributions.getFunctionRegistry().registerPattern(DATE_RANGES_OVERLAP, pattern,
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
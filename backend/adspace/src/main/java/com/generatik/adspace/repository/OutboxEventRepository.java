@@ -0,0 +1,43 @@
+package com.generatik.adspace.repository;
+
+import com.generatik.adspace.dto.event.BookingEventDto;
+import com.generatik.adspace.entity.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Events not yet handed to the sink, oldest first.
+     */
+    @Query("SELECT o FROM OutboxEvent o WHERE o.streamOffset IS NULL ORDER BY o.id")
+    List<OutboxEvent> findUnpublished(Limit limit);
+
+    @Query("SELECT COALESCE(MAX(o.streamOffset), 0) FROM OutboxEvent o")
+    long findLastOffset();
+
+    /**
+     * Published events after the given offset, read straight into DTOs for consumers tailing the stream.
+     */
+    @Query("SELECT new com.generatik.adspace.dto.event.BookingEventDto(" +
+           "o.id, o.streamOffset, o.type, o.bookingId, o.createdAt, o.payload) " +
+           "FROM OutboxEvent o WHERE o.streamOffset > :after ORDER BY o.streamOffset")
+    List<BookingEventDto> findPublishedAfter(@Param("after") long after, Limit limit);
+
+    /**
+     * Delete events published before the cutoff, except the one with the highest offset: offsets continue from
+     * it, so consumers tailing the stream never see them start again after a quiet retention period.
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o WHERE o.publishedAt < :cutoff " +
+           "AND o.streamOffset < (SELECT MAX(l.streamOffset) FROM OutboxEvent l)")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,75 @@
+package com.generatik.adspace.repository.reactive;
+
+import com.generatik.adspace.dto.adspace.AdSpaceResponseDto;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Non-blocking ad space reads over R2DBC. Rows are mapped straight to response DTOs, so nothing goes
+ * through the JPA persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdSpaceReactiveRepository {
+
+    private static final String SELECT = "SELECT id, name, type, city, address, price_per_day, status, latitude, longitude FROM ad_space ";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<AdSpaceResponseDto> findByStatus(AdSpaceStatus status, AdSpaceType type, String city) {
+        StringBuilder sql = new StringBuilder(SELECT).append("WHERE status = " + enumParameter("status"));
+        if (type != null) {
+            sql.append(" AND type = ").append(enumParameter("type"));
+        }
+        if (city != null) {
+            sql.append(" AND city = :city");
+        }
+        sql.append(" ORDER BY id");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString()).bind("status", status.name());
+        if (type != null) {
+            spec = spec.bind("type", type.name());
+        }
+        if (city != null) {
+            spec = spec.bind("city", city);
+        }
+        return spec.map(AdSpaceReactiveRepository::toDto).all();
+    }
+
+    public Mono<AdSpaceResponseDto> findById(Long id) {
+        return databaseClient.sql(SELECT + "WHERE id = :id")
+                .bind("id", id)
+                .map(AdSpaceReactiveRepository::toDto)
+                .one();
+    }
+
+    /**
+     * Enum columns are compared with an explicitly typed parameter: some drivers bind strings as CLOB,
+     * which the database refuses to compare with an enum column.
+     */
+    static String enumParameter(String name) {
+        return "CAST(:" + name + " AS VARCHAR(32))";
+    }
+
+    private static AdSpaceResponseDto toDto(Readable row) {
+        return AdSpaceResponseDto.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .type(AdSpaceType.valueOf(row.get("type", String.class)))
+                .city(row.get("city", String.class))
+                .address(row.get("address", String.class))
+                .pricePerDay(row.get("price_per_day", BigDecimal.class))
+                .status(AdSpaceStatus.valueOf(row.get("status", String.class)))
+                .latitude(row.get("latitude", Double.class))
+                .longitude(row.get("longitude", Double.class))
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.generatik.adspace.repository.reactive;
+
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.entity.BookingStatus;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking booking reads over R2DBC, returning the same DTO shape as the JPA projection queries.
+ * Results are fetched from the database in chunks as the subscriber requests them, so a slow client
+ * holds back the query instead of buffering the whole result set in memory.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingRequestReactiveRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String SELECT =
+            "SELECT br.id, br.ad_space_id, a.name AS ad_space_name, br.advertiser_name, br.advertiser_email, " +
+            "br.start_date, br.end_date, br.status, br.total_cost, br.created_at " +
+            "FROM booking_request br JOIN ad_space a ON a.id = br.ad_space_id ";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<BookingResponseDto> findAll() {
+        return databaseClient.sql(SELECT + "ORDER BY br.id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(BookingRequestReactiveRepository::toDto)
+                .all();
+    }
+
+    public Flux<BookingResponseDto> findByStatus(BookingStatus status) {
+        return databaseClient.sql(SELECT + "WHERE br.status = " + AdSpaceReactiveRepository.enumParameter("status") + " ORDER BY br.id")
+                .bind("status", status.name())
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(BookingRequestReactiveRepository::toDto)
+                .all();
+    }
+
+    private static BookingResponseDto toDto(Readable row) {
+        return BookingResponseDto.builder()
+                .id(row.get("id", Long.class))
+                .adSpaceId(row.get("ad_space_id", Long.class))
+                .adSpaceName(row.get("ad_space_name", String.class))
+                .advertiserName(row.get("advertiser_name", String.class))
+                .advertiserEmail(row.get("advertiser_email", String.class))
+                .startDate(row.get("start_date", LocalDate.class))
+                .endDate(row.get("end_date", LocalDate.class))
+                .status(BookingStatus.valueOf(row.get("status", String.class)))
+                .totalCost(row.get("total_cost", BigDecimal.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .build();
+    }
+}
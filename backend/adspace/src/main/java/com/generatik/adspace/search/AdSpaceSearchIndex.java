@@ -0,0 +1,300 @@
+package com.generatik.adspace.search;
+
+import com.generatik.adspace.dto.adspace.AdSpaceSearchDocumentDto;
+import com.generatik.adspace.entity.AdSpaceType;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LatLonDocValuesField;
+import org.apache.lucene.document.LatLonPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldCollectorManager;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.SloppyMath;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * In-memory Lucene index over the ad space catalog: name, city and address for full-text search, type for
+ * filtering, and coordinates for radius queries and distance sorting.
+ * <p>
+ * Each word of the search text must match one of the fields, exactly, within one or two typos, or (for the last
+ * word, as typed) as a prefix. Exact matches and matches in the name rank highest. Writes replace the document
+ * of their ad space and are visible to the next search; readers never block.
+ */
+@Component
+public class AdSpaceSearchIndex {
+
+    static final String ID = "id";
+    static final String ID_ORDER = "id_order";
+    static final String NAME = "name";
+    static final String CITY = "city";
+    static final String ADDRESS = "address";
+    static final String TYPE = "type";
+    static final String LOCATION = "location";
+    static final String LATITUDE = "latitude";
+    static final String LONGITUDE = "longitude";
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(NAME, 3f, CITY, 2f, ADDRESS, 1f);
+    private static final float EXACT_BOOST = 2f;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int MIN_TWO_EDITS_LENGTH = 8;
+
+    private final Analyzer analyzer = new CatalogAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private volatile boolean initialized;
+
+    public AdSpaceSearchIndex() {
+        try {
+            this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    /**
+     * A circle on the map: ad spaces without coordinates never fall inside one.
+     */
+    public record Circle(double latitude, double longitude, double radiusMeters) {
+    }
+
+    /**
+     * @param score Relevance, or null when there was no search text
+     * @param distanceMeters Distance from the circle's center, or null when searching without one
+     */
+    public record Hit(Long id, Float score, Double distanceMeters) {
+    }
+
+    public record Hits(long total, List<Hit> hits) {
+    }
+
+    /**
+     * Add or replace the document of an ad space.
+     */
+    public synchronized void update(AdSpaceSearchDocumentDto adSpace) {
+        try {
+            writer.updateDocument(idTerm(adSpace.getId()), toDocument(adSpace));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void remove(Long adSpaceId) {
+        try {
+            writer.deleteDocuments(idTerm(adSpaceId));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Replace every document with the given snapshot. Searches see the previous documents until the new ones
+     * are all in place; updates wait for the rebuild and are applied on top of it.
+     */
+    public synchronized void rebuild(Supplier<? extends Collection<AdSpaceSearchDocumentDto>> snapshot) {
+        try {
+            writer.deleteAll();
+            for (AdSpaceSearchDocumentDto adSpace : snapshot.get()) {
+                writer.addDocument(toDocument(adSpace));
+            }
+            searcherManager.maybeRefreshBlocking();
+            initialized = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Find ad spaces matching the search text, type and circle (each optional), ranked by relevance when there
+     * is text, otherwise nearest first when there is a circle, otherwise by id.
+     */
+    public Hits search(String text, AdSpaceType type, Circle near, int offset, int limit) {
+        List<String> words = analyze(text);
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (words.isEmpty()) {
+            query.add(new MatchAllDocsQuery(), Occur.MUST);
+        }
+        for (int i = 0; i < words.size(); i++) {
+            query.add(wordQuery(words.get(i), i == words.size() - 1), Occur.MUST);
+        }
+        if (type != null) {
+            query.add(new TermQuery(new Term(TYPE, type.name())), Occur.FILTER);
+        }
+        if (near != null) {
+            query.add(LatLonPoint.newDistanceQuery(LOCATION, near.latitude(), near.longitude(), near.radiusMeters()),
+                    Occur.FILTER);
+        }
+
+        SortField byId = new SortField(ID_ORDER, SortField.Type.LONG);
+        Sort sort;
+        if (!words.isEmpty()) {
+            sort = new Sort(SortField.FIELD_SCORE, byId);
+        } else if (near != null) {
+            sort = new Sort(LatLonDocValuesField.newDistanceSort(LOCATION, near.latitude(), near.longitude()), byId);
+        } else {
+            sort = new Sort(byId);
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            // Count every match, not just a lower bound, so pages can be numbered
+            TopFieldDocs top = searcher.search(query.build(),
+                    new TopFieldCollectorManager(sort, offset + limit, null, Integer.MAX_VALUE));
+            List<Hit> hits = new ArrayList<>();
+            for (int i = offset; i < top.scoreDocs.length; i++) {
+                hits.add(toHit(searcher, top.scoreDocs[i], !words.isEmpty(), near));
+            }
+            return new Hits(top.totalHits.value, hits);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private Query wordQuery(String word, boolean last) {
+        BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+        FIELD_BOOSTS.forEach((field, boost) -> {
+            Term term = new Term(field, word);
+            BooleanQuery.Builder variants = new BooleanQuery.Builder();
+            variants.add(new BoostQuery(new TermQuery(term), EXACT_BOOST), Occur.SHOULD);
+            if (word.length() >= MIN_FUZZY_LENGTH) {
+                variants.add(new FuzzyQuery(term, word.length() >= MIN_TWO_EDITS_LENGTH ? 2 : 1), Occur.SHOULD);
+            }
+            if (last) {
+                // The word may still be being typed
+                variants.add(new PrefixQuery(term), Occur.SHOULD);
+            }
+            anyField.add(new BoostQuery(variants.build(), boost), Occur.SHOULD);
+        });
+        return anyField.build();
+    }
+
+    private static Hit toHit(IndexSearcher searcher, ScoreDoc scoreDoc, boolean scored, Circle near) throws IOException {
+        Document document = searcher.storedFields().document(scoreDoc.doc);
+        Float score = scored ? (Float) ((FieldDoc) scoreDoc).fields[0] : null;
+        Double distance = null;
+        if (near != null && document.getField(LATITUDE) != null) {
+            distance = SloppyMath.haversinMeters(near.latitude(), near.longitude(),
+                    document.getField(LATITUDE).numericValue().doubleValue(),
+                    document.getField(LONGITUDE).numericValue().doubleValue());
+        }
+        return new Hit(Long.valueOf(document.get(ID)), score, distance);
+    }
+
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+        try (TokenStream stream = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                words.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private static Document toDocument(AdSpaceSearchDocumentDto adSpace) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(adSpace.getId()), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID_ORDER, adSpace.getId()));
+        document.add(new TextField(NAME, adSpace.getName(), Field.Store.NO));
+        document.add(new TextField(CITY, adSpace.getCity(), Field.Store.NO));
+        document.add(new TextField(ADDRESS, adSpace.getAddress(), Field.Store.NO));
+        document.add(new StringField(TYPE, adSpace.getType().name(), Field.Store.NO));
+        if (adSpace.getLatitude() != null && adSpace.getLongitude() != null) {
+            document.add(new LatLonPoint(LOCATION, adSpace.getLatitude(), adSpace.getLongitude()));
+            document.add(new LatLonDocValuesField(LOCATION, adSpace.getLatitude(), adSpace.getLongitude()));
+            document.add(new StoredField(LATITUDE, adSpace.getLatitude()));
+            document.add(new StoredField(LONGITUDE, adSpace.getLongitude()));
+        }
+        return document;
+    }
+
+    private static Term idTerm(Long adSpaceId) {
+        return new Term(ID, String.valueOf(adSpaceId));
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Splits on word boundaries, lower-cases and strips accents, so "Zürich" matches "zurich".
+     */
+    private static final class CatalogAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            StandardTokenizer tokenizer = new StandardTokenizer();
+            return new TokenStreamComponents(tokenizer, new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer)));
+        }
+
+        @Override
+        protected TokenStream normalize(String fieldName, TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
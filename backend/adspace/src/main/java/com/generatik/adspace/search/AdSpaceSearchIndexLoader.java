@@ -0,0 +1,71 @@
+package com.generatik.adspace.search;
+
+import com.generatik.adspace.event.AdSpaceChangedEvent;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps {@link AdSpaceSearchIndex} in line with the catalog: built once the application is ready, then updated
+ * as ad space writes commit.
+ */
+@Slf4j
+@Component
+public class AdSpaceSearchIndexLoader {
+
+    private static final int UPDATE_STRIPES = 64;
+
+    private final AdSpaceSearchIndex adSpaceSearchIndex;
+    private final AdSpaceRepository adSpaceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final Object[] updateLocks = new Object[UPDATE_STRIPES];
+
+    public AdSpaceSearchIndexLoader(
+            AdSpaceSearchIndex adSpaceSearchIndex,
+            AdSpaceRepository adSpaceRepository,
+            PlatformTransactionManager transactionManager) {
+        this.adSpaceSearchIndex = adSpaceSearchIndex;
+        this.adSpaceRepository = adSpaceRepository;
+        // Read-write so documents come from the primary: a lagging replica could miss committed changes
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // After commit, the committed transaction is still bound to the thread and cannot be joined
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < UPDATE_STRIPES; i++) {
+            updateLocks[i] = new Object();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        adSpaceSearchIndex.rebuild(() -> transactionTemplate.execute(status ->
+                adSpaceRepository.findAllSearchDocuments()));
+        log.info("Ad space search index built");
+    }
+
+    /**
+     * Re-read the ad space once its change has committed, so the index holds its committed state. The read and
+     * the apply happen under a lock per ad space: otherwise two commits to the same ad space could apply in the
+     * opposite order to their reads, leaving the older state indexed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAdSpaceChanged(AdSpaceChangedEvent event) {
+        Long adSpaceId = event.adSpaceId();
+        synchronized (updateLocks[Math.floorMod(adSpaceId.hashCode(), UPDATE_STRIPES)]) {
+            if (event.removed()) {
+                adSpaceSearchIndex.remove(adSpaceId);
+                return;
+            }
+            newTransactionTemplate.executeWithoutResult(status -> adSpaceRepository.findSearchDocumentById(adSpaceId)
+                    .ifPresentOrElse(adSpaceSearchIndex::update, () -> adSpaceSearchIndex.remove(adSpaceId)));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.generatik.adspace.service;
+
+import com.generatik.adspace.dto.analytics.AdSpaceAnalyticsDto;
+
+import java.time.LocalDate;
+
+public interface AdSpaceAnalyticsService {
+
+    /**
+     * Get approved booking days, occupancy rate and revenue per group and bucket, read from the rollups.
+     * Occupancy is booked days over the group's ad spaces times the days in the bucket; only buckets
+     * with approved bookings are returned.
+     *
+     * @param granularity Bucket size: DAY, WEEK or MONTH
+     * @param groupBy Grouping: AD_SPACE, CITY or TYPE
+     * @param from First day of the range; the bucket containing it is included in full
+     * @param to Last day of the range (inclusive)
+     * @param type Optional ad space type filter
+     * @param city Optional city filter
+     * @return Rows ordered by group and bucket
+     * @throws com.generatik.adspace.exception.BusinessValidationException if a parameter is invalid or the
+     *         range spans too many buckets
+     */
+    AdSpaceAnalyticsDto getAnalytics(String granularity, String groupBy, LocalDate from, LocalDate to,
+                                     String type, String city);
+}
@@ -1,7 +1,11 @@
 package com.generatik.adspace.service;
 
+import com.generatik.adspace.dto.adspace.AdSpaceCalendarDto;
+import com.generatik.adspace.dto.adspace.AdSpacePageDto;
 import com.generatik.adspace.dto.adspace.AdSpaceResponseDto;
+import com.generatik.adspace.dto.adspace.AdSpaceSearchPageDto;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AdSpaceService {
@@ -15,6 +19,24 @@ public interface AdSpaceService {
      */
     List<AdSpaceResponseDto> getAvailableAdSpaces(String type, String city);
 
+    /**
+     * Get ad spaces that have no approved booking overlapping the given date range.
+     * Ad spaces under maintenance are never returned.
+     *
+     * @param from First day of the range (inclusive)
+     * @param to Last day of the range (inclusive)
+     * @param type Optional ad space type filter
+     * @param city Optional city filter
+     * @param page Zero-based page number
+     * @param size Page size
+     * @param sortBy Sort property: pricePerDay, name or id
+     * @param direction Sort direction: asc or desc
+     * @return Page of available ad spaces
+     * @throws com.generatik.adspace.exception.BusinessValidationException if the range or paging is invalid
+     */
+    AdSpacePageDto getAdSpacesAvailableBetween(LocalDate from, LocalDate to, String type, String city,
+                                               int page, int size, String sortBy, String direction);
+
     /**
      * Get ad space by ID.
      *
@@ -23,5 +45,34 @@ public interface AdSpaceService {
      * @throws com.generatik.adspace.exception.NotFoundException if not found
      */
     AdSpaceResponseDto getAdSpaceById(Long id);
-}
 
+    /**
+     * Get the days of a date range on which the ad space has an approved booking, as a bitmap.
+     *
+     * @param id Ad space ID
+     * @param from First day of the range (inclusive)
+     * @param to Last day of the range (inclusive)
+     * @return Booked days, one bit per day of the range
+     * @throws com.generatik.adspace.exception.NotFoundException if the ad space does not exist
+     * @throws com.generatik.adspace.exception.BusinessValidationException if the range is invalid or too long
+     */
+    AdSpaceCalendarDto getCalendar(Long id, LocalDate from, LocalDate to);
+
+    /**
+     * Search the whole catalog by name, city and address, tolerating typos and unfinished words, and/or by
+     * distance from a point. Ranked by relevance when there is text, otherwise nearest first.
+     *
+     * @param text Optional search text
+     * @param type Optional ad space type filter
+     * @param latitude Optional latitude of the center, in degrees
+     * @param longitude Optional longitude of the center, in degrees
+     * @param radiusKm Optional radius around the center; required with a center
+     * @param page Zero-based page number
+     * @param size Page size
+     * @return Page of matching ad spaces with their score and distance
+     * @throws com.generatik.adspace.exception.BusinessValidationException if neither text nor a location is given,
+     *         or the location or paging is invalid
+     */
+    AdSpaceSearchPageDto search(String text, String type, Double latitude, Double longitude, Double radiusKm,
+                                int page, int size);
+}
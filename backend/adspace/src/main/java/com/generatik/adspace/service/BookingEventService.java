@@ -0,0 +1,15 @@
+package com.generatik.adspace.service;
+
+import com.generatik.adspace.dto.event.BookingEventPageDto;
+
+public interface BookingEventService {
+
+    /**
+     * Get published booking events after an offset, for consumers tailing the stream incrementally.
+     *
+     * @param after Last offset the consumer has processed (0 to start from the oldest retained event)
+     * @param limit Maximum number of events to return
+     * @return Events in offset order and the offset to pass as {@code after} next time
+     */
+    BookingEventPageDto getEvents(long after, int limit);
+}
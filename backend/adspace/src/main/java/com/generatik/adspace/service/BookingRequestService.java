@@ -1,11 +1,16 @@
 package com.generatik.adspace.service;
 
+import com.generatik.adspace.dto.booking.BookingBatchResultDto;
+import com.generatik.adspace.dto.booking.BookingDecisionBatchRequestDto;
+import com.generatik.adspace.dto.booking.BookingDecisionBatchResultDto;
+import com.generatik.adspace.dto.booking.BookingPageDto;
 import com.generatik.adspace.dto.booking.BookingResponseDto;
 import com.generatik.adspace.dto.booking.CreateBookingRequestDto;
 import com.generatik.adspace.entity.BookingStatus;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface BookingRequestService {
 
@@ -15,7 +20,7 @@ public interface BookingRequestService {
      * - Start date must be in the future
      * - End date must be after start date
      * - Minimum booking duration is 7 days
-     * - Ad space must be AVAILABLE
+     * - Ad space must not be under MAINTENANCE
      * - No overlapping APPROVED bookings
      *
      * @param request Booking request details
@@ -25,6 +30,16 @@ public interface BookingRequestService {
      */
     BookingResponseDto createBooking(CreateBookingRequestDto request);
 
+    /**
+     * Create many booking requests in one transaction.
+     * Each item is validated against the same rules as {@link #createBooking} and reported
+     * individually; valid items are inserted together even when others fail.
+     *
+     * @param requests Booking request details
+     * @return Per-item outcome, in request order
+     */
+    BookingBatchResultDto createBookings(List<CreateBookingRequestDto> requests);
+
     /**
      * Get booking by ID.
      *
@@ -42,15 +57,38 @@ public interface BookingRequestService {
      */
     List<BookingResponseDto> getAllBookings(Optional<BookingStatus> status);
 
+    /**
+     * Get one page of bookings ordered by creation time, using keyset pagination.
+     *
+     * @param status Optional booking status filter
+     * @param cursor Optional cursor returned as {@code nextCursor} by the previous page
+     * @param limit Maximum number of bookings in the page
+     * @return Page of bookings with the cursor of the next page, or {@code null} on the last page
+     * @throws com.generatik.adspace.exception.BusinessValidationException if the cursor or limit is invalid
+     */
+    BookingPageDto getBookingPage(Optional<BookingStatus> status, String cursor, int limit);
+
+    /**
+     * Stream all bookings ordered by creation time to the given consumer, one at a time,
+     * without holding the whole result in memory.
+     *
+     * @param status Optional booking status filter
+     * @param consumer Receives each booking in order
+     */
+    void exportBookings(Optional<BookingStatus> status, Consumer<BookingResponseDto> consumer);
+
     /**
      * Approve a pending booking.
-     * Only PENDING bookings can be approved.
-     * Sets the ad space status to BOOKED.
+     * Only PENDING bookings can be approved, and only if no APPROVED booking
+     * overlaps their date range.
+     * Rejects all other PENDING bookings on the same ad space that overlap the approved range.
+     * The ad space is marked BOOKED right away only if the booking already covers today;
+     * later transitions are made by the scheduled occupancy refresh.
      *
      * @param id Booking ID
      * @return Updated booking
      * @throws com.generatik.adspace.exception.NotFoundException if not found
-     * @throws com.generatik.adspace.exception.BusinessValidationException if not in PENDING status
+     * @throws com.generatik.adspace.exception.BusinessValidationException if not in PENDING status or overlapping
      */
     BookingResponseDto approveBooking(Long id);
 
@@ -64,5 +102,26 @@ public interface BookingRequestService {
      * @throws com.generatik.adspace.exception.BusinessValidationException if not in PENDING status
      */
     BookingResponseDto rejectBooking(Long id);
+
+    /**
+     * Approve many pending bookings in one transaction, with the same rules as {@link #approveBooking}.
+     * Bookings are taken in request order: one that overlaps an APPROVED booking fails, and one that
+     * overlaps a booking approved earlier in the batch is rejected, as any other overlapping PENDING
+     * booking is. Status changes are applied with set-based updates.
+     *
+     * @param request Booking ids, or a filter over the PENDING queue
+     * @return Per-booking outcome, in request order
+     * @throws com.generatik.adspace.exception.BusinessValidationException if neither or both of ids and filter are given
+     */
+    BookingDecisionBatchResultDto approveBookings(BookingDecisionBatchRequestDto request);
+
+    /**
+     * Reject many pending bookings in one transaction; bookings that are not PENDING are reported as failed.
+     *
+     * @param request Booking ids, or a filter over the PENDING queue
+     * @return Per-booking outcome, in request order
+     * @throws com.generatik.adspace.exception.BusinessValidationException if neither or both of ids and filter are given
+     */
+    BookingDecisionBatchResultDto rejectBookings(BookingDecisionBatchRequestDto request);
 }
 
@@ -0,0 +1,18 @@
+package com.generatik.adspace.service;
+
+import com.generatik.adspace.dto.campaign.CampaignSearchRequestDto;
+import com.generatik.adspace.dto.campaign.CampaignSearchResultDto;
+
+public interface CampaignSearchService {
+
+    /**
+     * Find sets of bookable ad spaces that are all free for the same contiguous window within the requested
+     * range, cheapest first. Each set is the cheapest for its window; sets repeated across windows are listed
+     * once, for their earliest window.
+     *
+     * @param request Number of ad spaces, window length, date range, optional filters and budget
+     * @return Ranked options; {@code complete} is false if the search hit its time limit
+     * @throws com.generatik.adspace.exception.BusinessValidationException if the type, dates or window are invalid
+     */
+    CampaignSearchResultDto search(CampaignSearchRequestDto request);
+}
@@ -0,0 +1,41 @@
+package com.generatik.adspace.service;
+
+import com.generatik.adspace.dto.adspace.AdSpaceResponseDto;
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.entity.BookingStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Non-blocking counterparts of the catalog and booking listing reads, backed by R2DBC.
+ * Results match {@link AdSpaceService} and {@link BookingRequestService}; writes stay on the JPA services.
+ */
+public interface ReactiveReadService {
+
+    /**
+     * Stream available ad spaces with optional filtering by type and city.
+     *
+     * @param type Optional ad space type filter
+     * @param city Optional city filter
+     * @return Available ad spaces ordered by id; errors with NotFoundException if the type is invalid
+     */
+    Flux<AdSpaceResponseDto> getAvailableAdSpaces(String type, String city);
+
+    /**
+     * Get ad space by ID.
+     *
+     * @param id Ad space ID
+     * @return Ad space details; errors with NotFoundException if not found
+     */
+    Mono<AdSpaceResponseDto> getAdSpaceById(Long id);
+
+    /**
+     * Stream all bookings with optional status filter, pulling rows from the database as they are consumed.
+     *
+     * @param status Optional booking status filter
+     * @return Bookings ordered by id
+     */
+    Flux<BookingResponseDto> getAllBookings(Optional<BookingStatus> status);
+}
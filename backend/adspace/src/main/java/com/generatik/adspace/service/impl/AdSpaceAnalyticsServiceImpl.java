@@ -0,0 +1,118 @@
+package com.generatik.adspace.service.impl;
+
+import com.generatik.adspace.dto.analytics.AdSpaceAnalyticsDto;
+import com.generatik.adspace.dto.analytics.AdSpaceAnalyticsRowDto;
+import com.generatik.adspace.dto.analytics.AdSpaceGroupCountDto;
+import com.generatik.adspace.dto.analytics.AnalyticsGroupBy;
+import com.generatik.adspace.dto.analytics.RollupTotalsDto;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.RollupGranularity;
+import com.generatik.adspace.exception.BusinessValidationException;
+import com.generatik.adspace.exception.BusinessValidationException.Reason;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.AdSpaceRollupRepository;
+import com.generatik.adspace.service.AdSpaceAnalyticsService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(value = "adspace.service", description = "Service method latency")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AdSpaceAnalyticsServiceImpl implements AdSpaceAnalyticsService {
+
+    private static final int MAX_BUCKETS = 366;
+
+    private final AdSpaceRollupRepository adSpaceRollupRepository;
+    private final AdSpaceRepository adSpaceRepository;
+
+    @Override
+    public AdSpaceAnalyticsDto getAnalytics(String granularity, String groupBy, LocalDate from, LocalDate to,
+                                            String type, String city) {
+        RollupGranularity bucketSize = parse(RollupGranularity.class, "granularity", granularity);
+        AnalyticsGroupBy grouping = parse(AnalyticsGroupBy.class, "groupBy", groupBy);
+        AdSpaceType adSpaceType = type == null ? null : parse(AdSpaceType.class, "ad space type", type);
+        if (to.isBefore(from)) {
+            throw new BusinessValidationException(Reason.INVALID_DATES, "End of the date range must not be before its start");
+        }
+        LocalDate firstBucket = bucketSize.bucketStart(from);
+        if (bucketsBetween(bucketSize, firstBucket, to) > MAX_BUCKETS) {
+            throw new BusinessValidationException("Date range must not span more than " + MAX_BUCKETS + " buckets of a " +
+                    bucketSize.name().toLowerCase() + "; use a larger granularity");
+        }
+
+        // One row per group and bucket from the rollups, plus the ad space count per group for occupancy
+        List<RollupTotalsDto> totals;
+        Map<String, Long> adSpaces;
+        switch (grouping) {
+            case AD_SPACE -> {
+                totals = adSpaceRollupRepository.sumByAdSpace(bucketSize, firstBucket, to, city, adSpaceType);
+                adSpaces = Map.of();
+            }
+            case CITY -> {
+                totals = adSpaceRollupRepository.sumByCity(bucketSize, firstBucket, to, city, adSpaceType);
+                adSpaces = groupCounts(adSpaceRepository.countByCity(city, adSpaceType));
+            }
+            default -> {
+                totals = adSpaceRollupRepository.sumByType(bucketSize, firstBucket, to, city, adSpaceType);
+                adSpaces = groupCounts(adSpaceRepository.countByType(city, adSpaceType));
+            }
+        }
+
+        List<AdSpaceAnalyticsRowDto> rows = totals.stream()
+                .map(total -> toRow(bucketSize, total, adSpaces.getOrDefault(total.getGroup(), 1L)))
+                .toList();
+        return AdSpaceAnalyticsDto.builder()
+                .granularity(bucketSize)
+                .groupBy(grouping)
+                .from(firstBucket)
+                .to(to)
+                .rows(rows)
+                .build();
+    }
+
+    private static AdSpaceAnalyticsRowDto toRow(RollupGranularity granularity, RollupTotalsDto total, long adSpaces) {
+        LocalDate bucketEnd = granularity.nextBucket(total.getBucketStart()).minusDays(1);
+        long capacity = adSpaces * (ChronoUnit.DAYS.between(total.getBucketStart(), bucketEnd) + 1);
+        return AdSpaceAnalyticsRowDto.builder()
+                .group(total.getGroup())
+                .bucketStart(total.getBucketStart())
+                .bucketEnd(bucketEnd)
+                .adSpaces(adSpaces)
+                .bookedDays(total.getBookedDays())
+                .occupancyRate(BigDecimal.valueOf(total.getBookedDays())
+                        .divide(BigDecimal.valueOf(capacity), 4, RoundingMode.HALF_UP))
+                .revenue(total.getRevenue())
+                .build();
+    }
+
+    private static Map<String, Long> groupCounts(List<AdSpaceGroupCountDto> counts) {
+        return counts.stream().collect(Collectors.toMap(AdSpaceGroupCountDto::getGroup, AdSpaceGroupCountDto::getAdSpaces));
+    }
+
+    private static long bucketsBetween(RollupGranularity granularity, LocalDate firstBucket, LocalDate to) {
+        return switch (granularity) {
+            case DAY -> ChronoUnit.DAYS.between(firstBucket, to) + 1;
+            case WEEK -> ChronoUnit.WEEKS.between(firstBucket, to) + 1;
+            case MONTH -> ChronoUnit.MONTHS.between(firstBucket, to) + 1;
+        };
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String name, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessValidationException("Invalid " + name + ": " + value);
+        }
+    }
+}
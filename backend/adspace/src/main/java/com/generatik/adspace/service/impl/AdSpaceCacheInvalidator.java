@@ -0,0 +1,118 @@
+package com.generatik.adspace.service.impl;
+
+import com.generatik.adspace.config.CacheConfig;
+import com.generatik.adspace.config.ReplicaProperties;
+import com.generatik.adspace.dto.adspace.AdSpaceResponseDto;
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.event.AdSpaceChangedEvent;
+import com.generatik.adspace.event.AdSpaceOccupancyRefreshedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evicts exactly the cached catalog entries an ad space change can affect: its own entry, and every
+ * catalog query that either lists it now or would select it after the change.
+ * <p>
+ * Eviction runs as soon as the change is flushed and again once the transaction completes, so a
+ * concurrent read that cached the old state in between does not survive the commit.
+ * <p>
+ * Bulk occupancy refreshes do not say which ad spaces moved, so they clear both caches.
+ * <p>
+ * With read replicas, a read routed to a replica that has not replayed the commit yet caches the old state
+ * again, in these caches and in Hibernate's {@code AdSpace} and query regions. Every eviction is therefore
+ * repeated, for all of them, once replicas can no longer be that far behind: the lag limit plus one lag check
+ * interval after the commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdSpaceCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReplicaProperties replicaProperties;
+    private final TaskScheduler taskScheduler;
+
+    @EventListener
+    public void onAdSpaceChanged(AdSpaceChangedEvent event) {
+        evict(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void afterAdSpaceChangeCompleted(AdSpaceChangedEvent event) {
+        evict(event);
+        afterReplicasCatchUp(() -> {
+            evict(event);
+            entityManagerFactory.getCache().evict(AdSpace.class, event.adSpaceId());
+            evictQueryRegions();
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void afterOccupancyRefreshed(AdSpaceOccupancyRefreshedEvent event) {
+        clear(CacheConfig.AD_SPACES);
+        clear(CacheConfig.AD_SPACE_CATALOG);
+        afterReplicasCatchUp(() -> {
+            clear(CacheConfig.AD_SPACES);
+            clear(CacheConfig.AD_SPACE_CATALOG);
+            entityManagerFactory.getCache().evict(AdSpace.class);
+            evictQueryRegions();
+        });
+    }
+
+    private void afterReplicasCatchUp(Runnable eviction) {
+        if (replicaProperties.getReplicas().isEmpty()) {
+            return;
+        }
+        Duration delay = replicaProperties.getMaxLag().plus(replicaProperties.getLagCheckInterval());
+        taskScheduler.schedule(eviction, Instant.now().plus(delay));
+    }
+
+    private void evictQueryRegions() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void evict(AdSpaceChangedEvent event) {
+        Cache adSpaces = cacheManager.getCache(CacheConfig.AD_SPACES);
+        if (adSpaces != null) {
+            adSpaces.evict(event.adSpaceId());
+        }
+
+        Cache catalog = cacheManager.getCache(CacheConfig.AD_SPACE_CATALOG);
+        if (catalog == null) {
+            return;
+        }
+        if (catalog.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().entrySet().removeIf(entry -> affects(entry, event));
+        } else {
+            catalog.clear();
+        }
+    }
+
+    private boolean affects(Map.Entry<?, ?> entry, AdSpaceChangedEvent event) {
+        if (entry.getKey() instanceof AdSpaceCatalogKey key && key.matches(event)) {
+            return true;
+        }
+        return entry.getValue() instanceof List<?> cached && cached.stream()
+                .anyMatch(item -> item instanceof AdSpaceResponseDto dto && dto.getId().equals(event.adSpaceId()));
+    }
+}
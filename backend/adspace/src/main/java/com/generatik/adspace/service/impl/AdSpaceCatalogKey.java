@@ -0,0 +1,22 @@
+package com.generatik.adspace.service.impl;
+
+import com.generatik.adspace.event.AdSpaceChangedEvent;
+
+/**
+ * Cache key of one catalog query. A {@code null} component means "no filter".
+ */
+public record AdSpaceCatalogKey(String type, String city) {
+
+    public static AdSpaceCatalogKey of(String type, String city) {
+        return new AdSpaceCatalogKey(type != null ? type.toUpperCase() : null, city);
+    }
+
+    /**
+     * Whether the ad space described by the event would be selected by this query.
+     */
+    public boolean matches(AdSpaceChangedEvent event) {
+        boolean typeMatches = type == null || (event.type() != null && type.equals(event.type().name()));
+        boolean cityMatches = city == null || city.equals(event.city());
+        return typeMatches && cityMatches;
+    }
+}
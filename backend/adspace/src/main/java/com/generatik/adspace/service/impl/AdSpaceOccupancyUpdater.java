@@ -0,0 +1,49 @@
+package com.generatik.adspace.service.impl;
+
+import com.generatik.adspace.event.AdSpaceOccupancyRefreshedEvent;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Derives {@code AdSpace.status} from approved booking date ranges: a space is BOOKED while an approved
+ * booking covers today and AVAILABLE otherwise. MAINTENANCE is never touched.
+ * <p>
+ * Transitions are applied with two set-based updates, so the cost does not grow with per-entity saves.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdSpaceOccupancyUpdater {
+
+    private final AdSpaceRepository adSpaceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${adspace.occupancy.refresh-cron:0 1 0 * * *}")
+    @Transactional
+    public void refresh() {
+        refresh(LocalDate.now());
+    }
+
+    @Transactional
+    public void refresh(LocalDate day) {
+        LocalDateTime now = LocalDateTime.now();
+        int vacated = adSpaceRepository.markVacantOn(day, now);
+        int occupied = adSpaceRepository.markOccupiedOn(day, now);
+
+        if (occupied + vacated > 0) {
+            log.info("Ad space occupancy for {}: {} became BOOKED, {} became AVAILABLE", day, occupied, vacated);
+            eventPublisher.publishEvent(new AdSpaceOccupancyRefreshedEvent(day, occupied, vacated));
+        }
+    }
+}
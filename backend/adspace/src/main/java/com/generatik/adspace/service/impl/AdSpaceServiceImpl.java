@@ -1,27 +1,67 @@
 package com.generatik.adspace.service.impl;
 
+import com.generatik.adspace.config.CacheConfig;
+import com.generatik.adspace.dto.adspace.AdSpaceCalendarDto;
+import com.generatik.adspace.dto.adspace.AdSpacePageDto;
 import com.generatik.adspace.dto.adspace.AdSpaceResponseDto;
+import com.generatik.adspace.dto.adspace.AdSpaceSearchHitDto;
+import com.generatik.adspace.dto.adspace.AdSpaceSearchPageDto;
 import com.generatik.adspace.entity.AdSpace;
 import com.generatik.adspace.entity.AdSpaceStatus;
 import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.exception.BusinessValidationException;
+import com.generatik.adspace.exception.BusinessValidationException.Reason;
 import com.generatik.adspace.exception.NotFoundException;
+import com.generatik.adspace.exception.ServiceUnavailableException;
+import com.generatik.adspace.index.AvailabilityCalendar;
 import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import com.generatik.adspace.search.AdSpaceSearchIndex;
+import com.generatik.adspace.search.AdSpaceSearchIndex.Circle;
+import com.generatik.adspace.search.AdSpaceSearchIndex.Hits;
 import com.generatik.adspace.service.AdSpaceService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "adspace.service", description = "Service method latency")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AdSpaceServiceImpl implements AdSpaceService {
 
     private final AdSpaceRepository adSpaceRepository;
+    private final BookingRequestRepository bookingRequestRepository;
+    private final AvailabilityCalendar availabilityCalendar;
+    private final AdSpaceSearchIndex adSpaceSearchIndex;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CALENDAR_DAYS = 731;
+    // Deepest result reachable by paging through a search
+    private static final int MAX_SEARCH_RESULTS = 10_000;
+    private static final double MAX_RADIUS_KM = 20_000;
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("pricePerDay", "name", "id");
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.AD_SPACE_CATALOG,
+            key = "T(com.generatik.adspace.service.impl.AdSpaceCatalogKey).of(#type, #city)")
     public List<AdSpaceResponseDto> getAvailableAdSpaces(String type, String city) {
         List<AdSpace> adSpaces;
 
@@ -42,16 +82,137 @@ public class AdSpaceServiceImpl implements AdSpaceService {
 
         return adSpaces.stream()
                 .map(this::mapToDto)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @Override
+    public AdSpacePageDto getAdSpacesAvailableBetween(LocalDate from, LocalDate to, String type, String city,
+                                                      int page, int size, String sortBy, String direction) {
+        if (to.isBefore(from)) {
+            throw new BusinessValidationException(Reason.INVALID_DATES, "End of the date range must not be before its start");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessValidationException("Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (!SORTABLE_PROPERTIES.contains(sortBy)) {
+            throw new BusinessValidationException("Cannot sort by " + sortBy + ". Allowed: " + SORTABLE_PROPERTIES);
+        }
+
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new BusinessValidationException("Invalid sort direction: " + direction));
+        // Tie-break on id so pages stay stable when prices are equal
+        Sort sort = Sort.by(sortDirection, sortBy).and(Sort.by("id"));
+        AdSpaceType adSpaceType = type != null ? parseAdSpaceType(type) : null;
+
+        Page<AdSpace> result = adSpaceRepository.findAvailableBetween(
+                adSpaceType, city, from, to, PageRequest.of(page, size, sort));
+
+        return AdSpacePageDto.builder()
+                .items(result.getContent().stream().map(this::mapToDto).toList())
+                .page(result.getNumber())
+                .size(result.getSize())
+                .totalElements(result.getTotalElements())
+                .totalPages(result.getTotalPages())
+                .build();
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.AD_SPACES, key = "#id")
     public AdSpaceResponseDto getAdSpaceById(Long id) {
         AdSpace adSpace = adSpaceRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Ad space not found with id: " + id));
         return mapToDto(adSpace);
     }
 
+    @Override
+    public AdSpaceCalendarDto getCalendar(Long id, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BusinessValidationException(Reason.INVALID_DATES, "End of the date range must not be before its start");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_CALENDAR_DAYS) {
+            throw new BusinessValidationException(Reason.INVALID_DATES, "Calendar range must not exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+        // Served from the second-level cache
+        if (adSpaceRepository.findById(id).isEmpty()) {
+            throw new NotFoundException("Ad space not found with id: " + id);
+        }
+
+        // The in-memory bitmaps cover the rolling horizon; anything else is computed from the bookings
+        BitSet booked = availabilityCalendar.covers(from, to)
+                ? availabilityCalendar.occupiedDays(id, from, to)
+                : AvailabilityCalendar.occupiedDays(
+                        bookingRequestRepository.findIntervalsByStatusAndAdSpaceIds(BookingStatus.APPROVED, List.of(id)), from, to);
+
+        return AdSpaceCalendarDto.builder()
+                .adSpaceId(id)
+                .from(from)
+                .to(to)
+                .days(days)
+                .bookedDays(booked.cardinality())
+                .bitmap(Base64.getEncoder().encodeToString(Arrays.copyOf(booked.toByteArray(), (days + 7) / 8)))
+                .build();
+    }
+
+    @Override
+    public AdSpaceSearchPageDto search(String text, String type, Double latitude, Double longitude, Double radiusKm,
+                                       int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessValidationException("Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (((long) page + 1) * size > MAX_SEARCH_RESULTS) {
+            throw new BusinessValidationException("Only the first " + MAX_SEARCH_RESULTS + " results can be paged through");
+        }
+        Circle near = toCircle(latitude, longitude, radiusKm);
+        if ((text == null || text.isBlank()) && near == null) {
+            throw new BusinessValidationException("Search text or a location is required");
+        }
+        AdSpaceType adSpaceType = type != null ? parseAdSpaceType(type) : null;
+        // Until the first build completes an empty result would look like a real answer
+        if (!adSpaceSearchIndex.isInitialized()) {
+            throw new ServiceUnavailableException("Search index is still being built, retry shortly");
+        }
+
+        Hits hits = adSpaceSearchIndex.search(text, adSpaceType, near, page * size, size);
+
+        // Only the page is read from the database; ad spaces deleted since they were indexed are skipped
+        Map<Long, AdSpace> adSpaces = adSpaceRepository
+                .findAllById(hits.hits().stream().map(AdSpaceSearchIndex.Hit::id).toList()).stream()
+                .collect(Collectors.toMap(AdSpace::getId, Function.identity()));
+        List<AdSpaceSearchHitDto> items = hits.hits().stream()
+                .filter(hit -> adSpaces.containsKey(hit.id()))
+                .map(hit -> AdSpaceSearchHitDto.builder()
+                        .adSpace(mapToDto(adSpaces.get(hit.id())))
+                        .score(hit.score())
+                        .distanceKm(hit.distanceMeters() == null ? null : hit.distanceMeters() / 1000)
+                        .build())
+                .toList();
+
+        return AdSpaceSearchPageDto.builder()
+                .items(items)
+                .page(page)
+                .size(size)
+                .totalElements(hits.total())
+                .totalPages((int) ((hits.total() + size - 1) / size))
+                .build();
+    }
+
+    private static Circle toCircle(Double latitude, Double longitude, Double radiusKm) {
+        if (latitude == null && longitude == null && radiusKm == null) {
+            return null;
+        }
+        if (latitude == null || longitude == null || radiusKm == null) {
+            throw new BusinessValidationException("lat, lon and radiusKm must be given together");
+        }
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BusinessValidationException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new BusinessValidationException("Radius must be greater than 0 and at most " + (int) MAX_RADIUS_KM + " km");
+        }
+        return new Circle(latitude, longitude, radiusKm * 1000);
+    }
+
     private AdSpaceType parseAdSpaceType(String type) {
         try {
             return AdSpaceType.valueOf(type.toUpperCase());
@@ -69,6 +230,8 @@ public class AdSpaceServiceImpl implements AdSpaceService {
                 .address(adSpace.getAddress())
                 .pricePerDay(adSpace.getPricePerDay())
                 .status(adSpace.getStatus())
+                .latitude(adSpace.getLatitude())
+                .longitude(adSpace.getLongitude())
                 .build();
     }
 }
@@ -0,0 +1,41 @@
+package com.generatik.adspace.service.impl;
+
+import com.generatik.adspace.dto.event.BookingEventDto;
+import com.generatik.adspace.dto.event.BookingEventPageDto;
+import com.generatik.adspace.exception.BusinessValidationException;
+import com.generatik.adspace.repository.OutboxEventRepository;
+import com.generatik.adspace.service.BookingEventService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Timed(value = "adspace.service", description = "Service method latency")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookingEventServiceImpl implements BookingEventService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Override
+    public BookingEventPageDto getEvents(long after, int limit) {
+        if (after < 0) {
+            throw new BusinessValidationException("Offset must not be negative");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BusinessValidationException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<BookingEventDto> events = outboxEventRepository.findPublishedAfter(after, Limit.of(limit));
+        return BookingEventPageDto.builder()
+                .items(events)
+                .nextOffset(events.isEmpty() ? after : events.get(events.size() - 1).getOffset())
+                .build();
+    }
+}
@@ -1,139 +1,544 @@
 package com.generatik.adspace.service.impl;
 
+import com.generatik.adspace.analytics.BookingRollupWriter;
+import com.generatik.adspace.dto.booking.BookingBatchItemResultDto;
+import com.generatik.adspace.dto.booking.BookingBatchResultDto;
+import com.generatik.adspace.dto.booking.BookingDecisionBatchRequestDto;
+import com.generatik.adspace.dto.booking.BookingDecisionBatchResultDto;
+import com.generatik.adspace.dto.booking.BookingDecisionItemResultDto;
+import com.generatik.adspace.dto.booking.BookingIntervalDto;
+import com.generatik.adspace.dto.booking.BookingPageDto;
 import com.generatik.adspace.dto.booking.BookingResponseDto;
 import com.generatik.adspace.dto.booking.CreateBookingRequestDto;
+import com.generatik.adspace.dto.booking.PendingBookingFilterDto;
 import com.generatik.adspace.entity.AdSpace;
 import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.BookingEventType;
 import com.generatik.adspace.entity.BookingRequest;
 import com.generatik.adspace.entity.BookingStatus;
 import com.generatik.adspace.exception.BusinessValidationException;
+import com.generatik.adspace.exception.BusinessValidationException.Reason;
+import com.generatik.adspace.event.BookingApprovedEvent;
 import com.generatik.adspace.exception.NotFoundException;
+import com.generatik.adspace.index.ApprovedBookingIndex;
+import com.generatik.adspace.metrics.BookingMetrics;
+import com.generatik.adspace.outbox.BookingEventOutbox;
 import com.generatik.adspace.repository.AdSpaceRepository;
 import com.generatik.adspace.repository.BookingRequestRepository;
 import com.generatik.adspace.service.BookingRequestService;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
+@Timed(value = "adspace.service", description = "Service method latency")
 @RequiredArgsConstructor
 @Transactional
 public class BookingRequestServiceImpl implements BookingRequestService {
 
     private final BookingRequestRepository bookingRequestRepository;
     private final AdSpaceRepository adSpaceRepository;
+    private final ApprovedBookingIndex approvedBookingIndex;
+    private final Validator validator;
+    private final BookingMetrics bookingMetrics;
+    private final BookingEventOutbox bookingEventOutbox;
+    private final BookingRollupWriter bookingRollupWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MINIMUM_BOOKING_DAYS = 7;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_DECISION_BATCH_SIZE = 1000;
+    private static final String OVERLAP_MESSAGE = "Ad space already has approved bookings for the selected date range";
 
     @Override
     public BookingResponseDto createBooking(CreateBookingRequestDto request) {
-        // Validate ad space exists
-        AdSpace adSpace = adSpaceRepository.findById(request.getAdSpaceId())
+        // Validate ad space exists, locking it so conflicting bookings on it are serialized
+        AdSpace adSpace = adSpaceRepository.findByIdForUpdate(request.getAdSpaceId())
                 .orElseThrow(() -> new NotFoundException("Ad space not found with id: " + request.getAdSpaceId()));
 
         // Validate dates
         validateBookingDates(request.getStartDate(), request.getEndDate());
 
         // Validate ad space is available
-        if (adSpace.getStatus() != AdSpaceStatus.AVAILABLE) {
-            throw new BusinessValidationException("Ad space is not available for booking. Current status: " + adSpace.getStatus());
-        }
+        validateAdSpaceAvailable(adSpace);
 
         // Check for overlapping approved bookings
-        List<BookingRequest> overlappingBookings = bookingRequestRepository.findOverlappingBookings(
-                adSpace.getId(),
-                BookingStatus.APPROVED,
-                request.getStartDate(),
-                request.getEndDate()
-        );
+        if (hasApprovedOverlap(adSpace.getId(), request.getStartDate(), request.getEndDate())) {
+            throw new BusinessValidationException(Reason.OVERLAPPING_BOOKING, OVERLAP_MESSAGE);
+        }
 
-        if (!overlappingBookings.isEmpty()) {
-            throw new BusinessValidationException("Ad space already has approved bookings for the selected date range");
+        BookingRequest savedBooking = bookingRequestRepository.save(newPendingBooking(request, adSpace));
+        BookingResponseDto created = mapToDto(savedBooking);
+        bookingEventOutbox.record(BookingEventType.BOOKING_CREATED, created);
+        return created;
+    }
+
+    @Override
+    public BookingBatchResultDto createBookings(List<CreateBookingRequestDto> requests) {
+        BookingBatchItemResultDto[] results = new BookingBatchItemResultDto[requests.size()];
+
+        // Bean validation per item, so one malformed item does not fail the whole batch
+        Set<Long> adSpaceIds = new TreeSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateBookingRequestDto request = requests.get(i);
+            List<String> errors = request == null
+                    ? List.of("Booking is required")
+                    : validator.validate(request).stream()
+                            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                            .sorted()
+                            .toList();
+            if (errors.isEmpty()) {
+                adSpaceIds.add(request.getAdSpaceId());
+            } else {
+                bookingMetrics.recordRejection(Reason.INVALID_REQUEST);
+                results[i] = failure(i, "Validation failed", errors);
+            }
         }
 
-        // Calculate total cost
-        long numberOfDays = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
-        BigDecimal totalCost = adSpace.getPricePerDay().multiply(BigDecimal.valueOf(numberOfDays));
+        // Lock every ad space involved once and resolve approved ranges without a query per item
+        Map<Long, AdSpace> adSpaces = adSpaceIds.isEmpty()
+                ? Map.of()
+                : adSpaceRepository.findAllByIdInForUpdate(adSpaceIds).stream()
+                        .collect(Collectors.toMap(AdSpace::getId, Function.identity()));
+        ApprovedBookingIndex approvedBookings = approvedBookingIndexFor(adSpaces.keySet());
 
-        // Create booking
-        BookingRequest booking = BookingRequest.builder()
-                .adSpace(adSpace)
-                .advertiserName(request.getAdvertiserName())
-                .advertiserEmail(request.getAdvertiserEmail())
-                .startDate(request.getStartDate())
-                .endDate(request.getEndDate())
-                .status(BookingStatus.PENDING)
-                .totalCost(totalCost)
-                .build();
+        List<BookingRequest> bookings = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            CreateBookingRequestDto request = requests.get(i);
+            try {
+                AdSpace adSpace = adSpaces.get(request.getAdSpaceId());
+                if (adSpace == null) {
+                    throw new NotFoundException("Ad space not found with id: " + request.getAdSpaceId());
+                }
+                validateBookingDates(request.getStartDate(), request.getEndDate());
+                validateAdSpaceAvailable(adSpace);
+                if (approvedBookings.hasOverlap(adSpace.getId(), request.getStartDate(), request.getEndDate())) {
+                    throw new BusinessValidationException(Reason.OVERLAPPING_BOOKING, OVERLAP_MESSAGE);
+                }
+                bookings.add(newPendingBooking(request, adSpace));
+                positions.add(i);
+            } catch (BusinessValidationException e) {
+                bookingMetrics.recordRejection(e);
+                results[i] = failure(i, e.getMessage(), null);
+            } catch (NotFoundException e) {
+                results[i] = failure(i, e.getMessage(), null);
+            }
+        }
+
+        // Sequence ids are assigned on persist; the inserts themselves go out as JDBC batches at flush
+        List<BookingRequest> savedBookings = bookingRequestRepository.saveAll(bookings);
+        List<BookingResponseDto> created = new ArrayList<>(savedBookings.size());
+        for (int k = 0; k < savedBookings.size(); k++) {
+            int index = positions.get(k);
+            BookingResponseDto booking = mapToDto(savedBookings.get(k));
+            created.add(booking);
+            results[index] = BookingBatchItemResultDto.builder()
+                    .index(index)
+                    .success(true)
+                    .booking(booking)
+                    .build();
+        }
+        bookingEventOutbox.recordAll(BookingEventType.BOOKING_CREATED, created);
 
-        BookingRequest savedBooking = bookingRequestRepository.save(booking);
-        return mapToDto(savedBooking);
+        return BookingBatchResultDto.builder()
+                .created(savedBookings.size())
+                .failed(requests.size() - savedBookings.size())
+                .results(Arrays.asList(results))
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
     public BookingResponseDto getBookingById(Long id) {
-        BookingRequest booking = bookingRequestRepository.findById(id)
+        return bookingRequestRepository.findDtoById(id)
                 .orElseThrow(() -> new NotFoundException("Booking not found with id: " + id));
-        return mapToDto(booking);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponseDto> getAllBookings(Optional<BookingStatus> status) {
-        List<BookingRequest> bookings;
-
         if (status.isPresent()) {
-            bookings = bookingRequestRepository.findByStatus(status.get());
+            return bookingRequestRepository.findDtosByStatus(status.get());
+        }
+        return bookingRequestRepository.findAllDtos();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingPageDto getBookingPage(Optional<BookingStatus> status, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BusinessValidationException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        // Fetch one extra row to know whether another page follows
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<BookingResponseDto> bookings;
+
+        if (cursor == null) {
+            bookings = status.isPresent()
+                    ? bookingRequestRepository.findFirstPageByStatus(status.get(), fetchLimit)
+                    : bookingRequestRepository.findFirstPage(fetchLimit);
         } else {
-            bookings = bookingRequestRepository.findAll();
+            BookingResponseDto after = decodeCursor(cursor);
+            bookings = status.isPresent()
+                    ? bookingRequestRepository.findPageAfterByStatus(
+                            status.get(), after.getCreatedAt(), after.getId(), fetchLimit)
+                    : bookingRequestRepository.findPageAfter(after.getCreatedAt(), after.getId(), fetchLimit);
         }
 
-        return bookings.stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+        boolean hasMore = bookings.size() > limit;
+        List<BookingResponseDto> page = hasMore ? bookings.subList(0, limit) : bookings;
+
+        return BookingPageDto.builder()
+                .items(page)
+                .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1)) : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportBookings(Optional<BookingStatus> status, Consumer<BookingResponseDto> consumer) {
+        // DTO rows are not managed entities, so the persistence context stays empty during the export
+        try (Stream<BookingResponseDto> bookings = status.isPresent()
+                ? bookingRequestRepository.streamByStatus(status.get())
+                : bookingRequestRepository.streamAll()) {
+            bookings.forEach(consumer);
+        }
     }
 
     @Override
     public BookingResponseDto approveBooking(Long id) {
+        AdSpace adSpace = lockAdSpaceOfBooking(id);
         BookingRequest booking = bookingRequestRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Booking not found with id: " + id));
 
         if (booking.getStatus() != BookingStatus.PENDING) {
-            throw new BusinessValidationException("Only PENDING bookings can be approved. Current status: " + booking.getStatus());
+            throw new BusinessValidationException(Reason.INVALID_STATUS, "Only PENDING bookings can be approved. Current status: " + booking.getStatus());
+        }
+
+        // Re-check against the database: no other approval for this ad space can commit while we hold the lock
+        if (bookingRequestRepository.existsOverlapping(
+                adSpace.getId(), BookingStatus.APPROVED, booking.getStartDate(), booking.getEndDate())) {
+            throw new BusinessValidationException(Reason.OVERLAPPING_BOOKING, OVERLAP_MESSAGE);
         }
 
         // Update booking status
         booking.setStatus(BookingStatus.APPROVED);
 
-        // Update ad space status to BOOKED
-        AdSpace adSpace = booking.getAdSpace();
-        adSpace.setStatus(AdSpaceStatus.BOOKED);
-        adSpaceRepository.save(adSpace);
+        // Occupancy follows the booking dates: mark BOOKED now only if the booking is already running,
+        // otherwise the occupancy job flips the status when it starts
+        if (coversToday(booking) && adSpace.getStatus() == AdSpaceStatus.AVAILABLE) {
+            adSpace.setStatus(AdSpaceStatus.BOOKED);
+            adSpaceRepository.save(adSpace);
+        }
 
         BookingRequest updatedBooking = bookingRequestRepository.save(booking);
-        return mapToDto(updatedBooking);
+        approvedBookingIndex.add(updatedBooking.getId(), adSpace.getId(),
+                updatedBooking.getStartDate(), updatedBooking.getEndDate());
+
+        BookingResponseDto approved = mapToDto(updatedBooking);
+        bookingEventOutbox.record(BookingEventType.BOOKING_APPROVED, approved);
+        bookingRollupWriter.addApproved(List.of(approved));
+        eventPublisher.publishEvent(new BookingApprovedEvent(
+                updatedBooking.getId(), adSpace.getId(), updatedBooking.getStartDate(), updatedBooking.getEndDate()));
+
+        // Pending requests that overlap can never be approved now; reject them in one statement.
+        // The ad space lock keeps new overlapping requests out between reading them and the update.
+        List<BookingResponseDto> overlapping = bookingRequestRepository.findOverlappingPendingDtos(
+                adSpace.getId(), updatedBooking.getId(), updatedBooking.getStartDate(), updatedBooking.getEndDate());
+        if (!overlapping.isEmpty()) {
+            int rejected = bookingRequestRepository.rejectOverlappingPending(
+                    adSpace.getId(), updatedBooking.getId(), updatedBooking.getStartDate(), updatedBooking.getEndDate());
+            overlapping.forEach(pending -> pending.setStatus(BookingStatus.REJECTED));
+            bookingEventOutbox.recordAll(BookingEventType.BOOKING_REJECTED, overlapping);
+            log.info("Approving booking {} auto-rejected {} overlapping pending bookings", id, rejected);
+        }
+
+        return approved;
     }
 
     @Override
     public BookingResponseDto rejectBooking(Long id) {
+        lockAdSpaceOfBooking(id);
         BookingRequest booking = bookingRequestRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Booking not found with id: " + id));
 
         if (booking.getStatus() != BookingStatus.PENDING) {
-            throw new BusinessValidationException("Only PENDING bookings can be rejected. Current status: " + booking.getStatus());
+            throw new BusinessValidationException(Reason.INVALID_STATUS, "Only PENDING bookings can be rejected. Current status: " + booking.getStatus());
         }
 
         booking.setStatus(BookingStatus.REJECTED);
         BookingRequest updatedBooking = bookingRequestRepository.save(booking);
-        return mapToDto(updatedBooking);
+        BookingResponseDto rejected = mapToDto(updatedBooking);
+        bookingEventOutbox.record(BookingEventType.BOOKING_REJECTED, rejected);
+        return rejected;
+    }
+
+    @Override
+    public BookingDecisionBatchResultDto approveBookings(BookingDecisionBatchRequestDto request) {
+        List<Long> ids = resolveDecisionIds(request);
+        Map<Long, AdSpace> adSpaces = lockAdSpacesOfBookings(ids);
+        Map<Long, BookingResponseDto> bookings = findDtosById(ids);
+
+        // Approved ranges per ad space, read once and extended in memory as bookings of this batch are approved
+        Map<Long, List<BookingIntervalDto>> approvedRanges = adSpaces.isEmpty()
+                ? new HashMap<>()
+                : bookingRequestRepository.findIntervalsByStatusAndAdSpaceIds(BookingStatus.APPROVED, adSpaces.keySet())
+                        .stream()
+                        .collect(Collectors.groupingBy(BookingIntervalDto::getAdSpaceId, Collectors.toCollection(ArrayList::new)));
+
+        BookingDecisionItemResultDto[] results = new BookingDecisionItemResultDto[ids.size()];
+        Map<Long, BookingResponseDto> approved = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            BookingResponseDto booking = bookings.get(id);
+            if (booking == null) {
+                results[i] = decisionFailure(id, null, "Booking not found with id: " + id);
+                continue;
+            }
+            if (booking.getStatus() != BookingStatus.PENDING) {
+                bookingMetrics.recordRejection(Reason.INVALID_STATUS);
+                results[i] = decisionFailure(id, booking,
+                        "Only PENDING bookings can be approved. Current status: " + booking.getStatus());
+                continue;
+            }
+
+            List<BookingIntervalDto> ranges = approvedRanges.computeIfAbsent(booking.getAdSpaceId(), adSpaceId -> new ArrayList<>());
+            Optional<BookingIntervalDto> conflict = ranges.stream()
+                    .filter(range -> overlaps(range.getStartDate(), range.getEndDate(), booking.getStartDate(), booking.getEndDate()))
+                    .findFirst();
+            if (conflict.isPresent()) {
+                bookingMetrics.recordRejection(Reason.OVERLAPPING_BOOKING);
+                // Losing to a booking approved in this batch gets it auto-rejected below; report that there
+                results[i] = approved.containsKey(conflict.get().getBookingId())
+                        ? null
+                        : decisionFailure(id, booking, OVERLAP_MESSAGE);
+                continue;
+            }
+            ranges.add(new BookingIntervalDto(id, booking.getAdSpaceId(), booking.getStartDate(), booking.getEndDate()));
+            approved.put(id, booking);
+        }
+
+        List<BookingResponseDto> autoRejected = List.of();
+        if (!approved.isEmpty()) {
+            // Occupancy as in approveBooking; the entities are still managed, so the next update flushes them
+            for (BookingResponseDto booking : approved.values()) {
+                AdSpace adSpace = adSpaces.get(booking.getAdSpaceId());
+                if (coversToday(booking.getStartDate(), booking.getEndDate()) && adSpace.getStatus() == AdSpaceStatus.AVAILABLE) {
+                    adSpace.setStatus(AdSpaceStatus.BOOKED);
+                }
+            }
+
+            bookingRequestRepository.updatePendingStatus(approved.keySet(), BookingStatus.APPROVED);
+            autoRejected = findPendingOverlapping(approved.values());
+            if (!autoRejected.isEmpty()) {
+                bookingRequestRepository.updatePendingStatus(
+                        autoRejected.stream().map(BookingResponseDto::getId).toList(), BookingStatus.REJECTED);
+                autoRejected.forEach(pending -> pending.setStatus(BookingStatus.REJECTED));
+            }
+
+            for (BookingResponseDto booking : approved.values()) {
+                booking.setStatus(BookingStatus.APPROVED);
+                approvedBookingIndex.add(booking.getId(), booking.getAdSpaceId(), booking.getStartDate(), booking.getEndDate());
+                eventPublisher.publishEvent(new BookingApprovedEvent(
+                        booking.getId(), booking.getAdSpaceId(), booking.getStartDate(), booking.getEndDate()));
+            }
+            bookingEventOutbox.recordAll(BookingEventType.BOOKING_APPROVED, approved.values());
+            bookingRollupWriter.addApproved(approved.values());
+            bookingEventOutbox.recordAll(BookingEventType.BOOKING_REJECTED, autoRejected);
+        }
+
+        Map<Long, BookingResponseDto> rejectedById = autoRejected.stream()
+                .collect(Collectors.toMap(BookingResponseDto::getId, Function.identity()));
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (approved.containsKey(id)) {
+                results[i] = decisionSuccess(approved.get(id));
+            } else if (results[i] == null) {
+                results[i] = decisionFailure(id, rejectedById.get(id),
+                        "Rejected: overlaps a booking approved earlier in this batch");
+            }
+        }
+        int autoRejectedOthers = (int) rejectedById.keySet().stream().filter(id -> !bookings.containsKey(id)).count();
+        log.info("Batch approval of {} bookings approved {} and auto-rejected {} overlapping pending bookings",
+                ids.size(), approved.size(), rejectedById.size());
+
+        return decisionResult(results, autoRejectedOthers);
+    }
+
+    @Override
+    public BookingDecisionBatchResultDto rejectBookings(BookingDecisionBatchRequestDto request) {
+        List<Long> ids = resolveDecisionIds(request);
+        lockAdSpacesOfBookings(ids);
+        Map<Long, BookingResponseDto> bookings = findDtosById(ids);
+
+        BookingDecisionItemResultDto[] results = new BookingDecisionItemResultDto[ids.size()];
+        List<BookingResponseDto> rejected = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            BookingResponseDto booking = bookings.get(id);
+            if (booking == null) {
+                results[i] = decisionFailure(id, null, "Booking not found with id: " + id);
+            } else if (booking.getStatus() != BookingStatus.PENDING) {
+                bookingMetrics.recordRejection(Reason.INVALID_STATUS);
+                results[i] = decisionFailure(id, booking,
+                        "Only PENDING bookings can be rejected. Current status: " + booking.getStatus());
+            } else {
+                booking.setStatus(BookingStatus.REJECTED);
+                rejected.add(booking);
+                results[i] = decisionSuccess(booking);
+            }
+        }
+
+        if (!rejected.isEmpty()) {
+            bookingRequestRepository.updatePendingStatus(
+                    rejected.stream().map(BookingResponseDto::getId).toList(), BookingStatus.REJECTED);
+            bookingEventOutbox.recordAll(BookingEventType.BOOKING_REJECTED, rejected);
+        }
+        return decisionResult(results, 0);
+    }
+
+    private List<Long> resolveDecisionIds(BookingDecisionBatchRequestDto request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (hasIds == (request.getFilter() != null)) {
+            throw new BusinessValidationException("Specify either booking ids or a filter");
+        }
+        if (!hasIds) {
+            PendingBookingFilterDto filter = request.getFilter();
+            return bookingRequestRepository.findPendingIds(filter.getAdSpaceId(), filter.getStartDateFrom(),
+                    filter.getStartDateTo(), Limit.of(MAX_DECISION_BATCH_SIZE));
+        }
+        if (request.getIds().size() > MAX_DECISION_BATCH_SIZE) {
+            throw new BusinessValidationException("At most " + MAX_DECISION_BATCH_SIZE + " bookings can be decided at once");
+        }
+        if (request.getIds().stream().anyMatch(Objects::isNull)) {
+            throw new BusinessValidationException("Booking ids must not be null");
+        }
+        // A booking listed twice is decided once
+        return List.copyOf(new LinkedHashSet<>(request.getIds()));
+    }
+
+    private Map<Long, AdSpace> lockAdSpacesOfBookings(List<Long> bookingIds) {
+        // Take the ad space locks before reading the bookings, as for a single booking
+        if (bookingIds.isEmpty()) {
+            return Map.of();
+        }
+        return adSpaceRepository.findAllByBookingIdInForUpdate(bookingIds).stream()
+                .collect(Collectors.toMap(AdSpace::getId, Function.identity()));
+    }
+
+    private Map<Long, BookingResponseDto> findDtosById(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return bookingRequestRepository.findDtosByIdIn(ids).stream()
+                .collect(Collectors.toMap(BookingResponseDto::getId, Function.identity()));
+    }
+
+    /**
+     * PENDING bookings overlapping any of the given ones on the same ad space, read with one query over
+     * the combined date span and matched in memory.
+     */
+    private List<BookingResponseDto> findPendingOverlapping(Collection<BookingResponseDto> approved) {
+        Map<Long, List<BookingResponseDto>> approvedByAdSpace = approved.stream()
+                .collect(Collectors.groupingBy(BookingResponseDto::getAdSpaceId));
+        LocalDate from = approved.stream().map(BookingResponseDto::getStartDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = approved.stream().map(BookingResponseDto::getEndDate).max(LocalDate::compareTo).orElseThrow();
+
+        return bookingRequestRepository.findPendingDtosOverlapping(approvedByAdSpace.keySet(), from, to).stream()
+                .filter(pending -> approvedByAdSpace.get(pending.getAdSpaceId()).stream()
+                        .anyMatch(booking -> overlaps(booking.getStartDate(), booking.getEndDate(),
+                                pending.getStartDate(), pending.getEndDate())))
+                .toList();
+    }
+
+    private static boolean overlaps(LocalDate start1, LocalDate end1, LocalDate start2, LocalDate end2) {
+        return !start1.isAfter(end2) && !end1.isBefore(start2);
+    }
+
+    private BookingDecisionItemResultDto decisionSuccess(BookingResponseDto booking) {
+        return BookingDecisionItemResultDto.builder()
+                .id(booking.getId())
+                .success(true)
+                .booking(booking)
+                .build();
+    }
+
+    private BookingDecisionItemResultDto decisionFailure(Long id, BookingResponseDto booking, String message) {
+        return BookingDecisionItemResultDto.builder()
+                .id(id)
+                .success(false)
+                .booking(booking)
+                .message(message)
+                .build();
+    }
+
+    private BookingDecisionBatchResultDto decisionResult(BookingDecisionItemResultDto[] results, int autoRejected) {
+        int succeeded = (int) Arrays.stream(results).filter(BookingDecisionItemResultDto::isSuccess).count();
+        return BookingDecisionBatchResultDto.builder()
+                .succeeded(succeeded)
+                .failed(results.length - succeeded)
+                .autoRejected(autoRejected)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    private AdSpace lockAdSpaceOfBooking(Long bookingId) {
+        // Take the ad space lock before reading the booking so its status cannot change underneath us
+        return adSpaceRepository.findByBookingIdForUpdate(bookingId)
+                .orElseThrow(() -> new NotFoundException("Booking not found with id: " + bookingId));
+    }
+
+    private ApprovedBookingIndex approvedBookingIndexFor(Collection<Long> adSpaceIds) {
+        if (approvedBookingIndex.isInitialized() || adSpaceIds.isEmpty()) {
+            return approvedBookingIndex;
+        }
+        // Before the shared index is built, snapshot just these ad spaces with a single query
+        ApprovedBookingIndex snapshot = new ApprovedBookingIndex();
+        snapshot.rebuild(() -> bookingRequestRepository.findIntervalsByStatusAndAdSpaceIds(BookingStatus.APPROVED, adSpaceIds));
+        return snapshot;
+    }
+
+    private boolean hasApprovedOverlap(Long adSpaceId, LocalDate startDate, LocalDate endDate) {
+        // Serve from the in-memory index once it has been built; fall back to the database before that
+        if (approvedBookingIndex.isInitialized()) {
+            return approvedBookingIndex.hasOverlap(adSpaceId, startDate, endDate);
+        }
+        return bookingRequestRepository.existsOverlapping(adSpaceId, BookingStatus.APPROVED, startDate, endDate);
     }
 
     private void validateBookingDates(LocalDate startDate, LocalDate endDate) {
@@ -141,18 +546,77 @@ public class BookingRequestServiceImpl implements BookingRequestService {
 
         // Start date must be in the future
         if (!startDate.isAfter(today)) {
-            throw new BusinessValidationException("Start date must be in the future");
+            throw new BusinessValidationException(Reason.INVALID_DATES, "Start date must be in the future");
         }
 
         // End date must be after start date
         if (!endDate.isAfter(startDate)) {
-            throw new BusinessValidationException("End date must be after start date");
+            throw new BusinessValidationException(Reason.INVALID_DATES, "End date must be after start date");
         }
 
         // Minimum booking duration is 7 days
         long daysBetween = ChronoUnit.DAYS.between(startDate, endDate) + 1;
         if (daysBetween < MINIMUM_BOOKING_DAYS) {
-            throw new BusinessValidationException("Minimum booking duration is " + MINIMUM_BOOKING_DAYS + " days");
+            throw new BusinessValidationException(Reason.INVALID_DATES, "Minimum booking duration is " + MINIMUM_BOOKING_DAYS + " days");
+        }
+    }
+
+    private boolean coversToday(BookingRequest booking) {
+        return coversToday(booking.getStartDate(), booking.getEndDate());
+    }
+
+    private boolean coversToday(LocalDate startDate, LocalDate endDate) {
+        LocalDate today = LocalDate.now();
+        return !startDate.isAfter(today) && !endDate.isBefore(today);
+    }
+
+    private void validateAdSpaceAvailable(AdSpace adSpace) {
+        // BOOKED only describes today; future dates are decided by the approved booking overlap check
+        if (adSpace.getStatus() == AdSpaceStatus.MAINTENANCE) {
+            throw new BusinessValidationException(Reason.AD_SPACE_UNAVAILABLE, "Ad space is not available for booking. Current status: " + adSpace.getStatus());
+        }
+    }
+
+    private BookingRequest newPendingBooking(CreateBookingRequestDto request, AdSpace adSpace) {
+        // Calculate total cost
+        long numberOfDays = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+        BigDecimal totalCost = adSpace.getPricePerDay().multiply(BigDecimal.valueOf(numberOfDays));
+
+        return BookingRequest.builder()
+                .adSpace(adSpace)
+                .advertiserName(request.getAdvertiserName())
+                .advertiserEmail(request.getAdvertiserEmail())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .status(BookingStatus.PENDING)
+                .totalCost(totalCost)
+                .build();
+    }
+
+    private BookingBatchItemResultDto failure(int index, String message, List<String> errors) {
+        return BookingBatchItemResultDto.builder()
+                .index(index)
+                .success(false)
+                .message(message)
+                .errors(errors)
+                .build();
+    }
+
+    private String encodeCursor(BookingResponseDto booking) {
+        String key = booking.getCreatedAt() + "|" + booking.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private BookingResponseDto decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf('|');
+            return BookingResponseDto.builder()
+                    .createdAt(LocalDateTime.parse(key.substring(0, separator)))
+                    .id(Long.parseLong(key.substring(separator + 1)))
+                    .build();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessValidationException("Invalid cursor: " + cursor);
         }
     }
 
@@ -0,0 +1,169 @@
+package com.generatik.adspace.service.impl;
+
+import com.generatik.adspace.campaign.CampaignSolver;
+import com.generatik.adspace.campaign.CampaignSolver.Candidate;
+import com.generatik.adspace.campaign.CampaignSolver.Option;
+import com.generatik.adspace.campaign.CampaignSolver.Problem;
+import com.generatik.adspace.campaign.CampaignSolver.Solution;
+import com.generatik.adspace.dto.booking.BookingIntervalDto;
+import com.generatik.adspace.dto.campaign.CampaignAdSpaceDto;
+import com.generatik.adspace.dto.campaign.CampaignCandidateDto;
+import com.generatik.adspace.dto.campaign.CampaignOptionDto;
+import com.generatik.adspace.dto.campaign.CampaignSearchRequestDto;
+import com.generatik.adspace.dto.campaign.CampaignSearchResultDto;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.exception.BusinessValidationException;
+import com.generatik.adspace.exception.BusinessValidationException.Reason;
+import com.generatik.adspace.index.AvailabilityCalendar;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import com.generatik.adspace.service.CampaignSearchService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the candidates and their booked days in a short read-only transaction and runs the solver after it has
+ * committed, so a search never holds a connection while it computes.
+ */
+@Service
+@Timed(value = "adspace.service", description = "Service method latency")
+public class CampaignSearchServiceImpl implements CampaignSearchService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int DEFAULT_MAX_RESULTS = 10;
+
+    private final AdSpaceRepository adSpaceRepository;
+    private final BookingRequestRepository bookingRequestRepository;
+    private final AvailabilityCalendar availabilityCalendar;
+    private final CampaignSolver campaignSolver;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int maxCandidates;
+
+    public CampaignSearchServiceImpl(
+            AdSpaceRepository adSpaceRepository,
+            BookingRequestRepository bookingRequestRepository,
+            AvailabilityCalendar availabilityCalendar,
+            CampaignSolver campaignSolver,
+            PlatformTransactionManager transactionManager,
+            @Value("${adspace.campaign.max-candidates:10000}") int maxCandidates) {
+        this.adSpaceRepository = adSpaceRepository;
+        this.bookingRequestRepository = bookingRequestRepository;
+        this.availabilityCalendar = availabilityCalendar;
+        this.campaignSolver = campaignSolver;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Override
+    public CampaignSearchResultDto search(CampaignSearchRequestDto request) {
+        AdSpaceType type = request.getType() == null ? null : parseType(request.getType());
+        LocalDate from = request.getEarliestStart();
+        LocalDate to = request.getLatestEnd();
+        if (to.isBefore(from)) {
+            throw new BusinessValidationException(Reason.INVALID_DATES, "Latest end date must not be before earliest start date");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_RANGE_DAYS) {
+            throw new BusinessValidationException(Reason.INVALID_DATES, "Date range must not span more than " + MAX_RANGE_DAYS + " days");
+        }
+        if (request.getWindowDays() > days) {
+            throw new BusinessValidationException(Reason.INVALID_DATES, "Window of " + request.getWindowDays() +
+                    " days does not fit between " + from + " and " + to);
+        }
+
+        long startedAt = System.nanoTime();
+        Candidates loaded = readOnlyTransactionTemplate.execute(status -> loadCandidates(type, request.getCity(), from, to));
+        int maxResults = request.getMaxResults() == null ? DEFAULT_MAX_RESULTS : request.getMaxResults();
+        Solution solution = campaignSolver.solve(new Problem(loaded.candidates(), days, request.getWindowDays(),
+                request.getAdSpaces(), request.getMaxBudget(), maxResults), startedAt);
+
+        return CampaignSearchResultDto.builder()
+                .options(solution.options().stream()
+                        .map(option -> toOptionDto(option, from, request.getWindowDays()))
+                        .toList())
+                .candidates(loaded.candidates().size())
+                .windows(days - request.getWindowDays() + 1)
+                .complete(solution.complete() && !loaded.truncated())
+                .build();
+    }
+
+    /**
+     * @param truncated True when more ad spaces matched than {@code maxCandidates}; only the cheapest were kept
+     */
+    private record Candidates(List<Candidate> candidates, boolean truncated) {
+    }
+
+    private Candidates loadCandidates(AdSpaceType type, String city, LocalDate from, LocalDate to) {
+        List<CampaignCandidateDto> candidates = adSpaceRepository.findCampaignCandidates(type, city,
+                PageRequest.of(0, maxCandidates + 1));
+        boolean truncated = candidates.size() > maxCandidates;
+        if (truncated) {
+            candidates = candidates.subList(0, maxCandidates);
+        }
+        return new Candidates(toCandidates(candidates, type, city, from, to), truncated);
+    }
+
+    /**
+     * Attach each candidate's booked days over the range: from the availability calendar when it covers the
+     * range, otherwise from one query for the approved bookings overlapping it.
+     */
+    private List<Candidate> toCandidates(List<CampaignCandidateDto> candidates, AdSpaceType type, String city,
+                                         LocalDate from, LocalDate to) {
+        if (availabilityCalendar.covers(from, to)) {
+            return candidates.stream()
+                    .map(candidate -> toCandidate(candidate, availabilityCalendar.occupiedDays(candidate.getId(), from, to)))
+                    .toList();
+        }
+        Map<Long, List<BookingIntervalDto>> intervals = bookingRequestRepository
+                .findIntervalsOverlapping(BookingStatus.APPROVED, type, city, from, to).stream()
+                .collect(Collectors.groupingBy(BookingIntervalDto::getAdSpaceId));
+        return candidates.stream()
+                .map(candidate -> toCandidate(candidate, AvailabilityCalendar.occupiedDays(
+                        intervals.getOrDefault(candidate.getId(), List.of()), from, to)))
+                .toList();
+    }
+
+    private static Candidate toCandidate(CampaignCandidateDto candidate, BitSet busy) {
+        return new Candidate(candidate.getId(), candidate.getName(), candidate.getPricePerDay(), busy);
+    }
+
+    private static CampaignOptionDto toOptionDto(Option option, LocalDate from, int windowDays) {
+        LocalDate startDate = from.plusDays(option.windowStart());
+        BigDecimal days = BigDecimal.valueOf(windowDays);
+        return CampaignOptionDto.builder()
+                .startDate(startDate)
+                .endDate(startDate.plusDays(windowDays - 1L))
+                .totalCost(option.totalCost())
+                .adSpaces(option.adSpaces().stream()
+                        .map(candidate -> CampaignAdSpaceDto.builder()
+                                .id(candidate.id())
+                                .name(candidate.name())
+                                .pricePerDay(candidate.pricePerDay())
+                                .cost(candidate.pricePerDay().multiply(days))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private static AdSpaceType parseType(String type) {
+        try {
+            return AdSpaceType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessValidationException("Invalid ad space type: " + type);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.generatik.adspace.service.impl;
+
+import com.generatik.adspace.dto.adspace.AdSpaceResponseDto;
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.exception.NotFoundException;
+import com.generatik.adspace.repository.reactive.AdSpaceReactiveRepository;
+import com.generatik.adspace.repository.reactive.BookingRequestReactiveRepository;
+import com.generatik.adspace.service.ReactiveReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+    private final AdSpaceReactiveRepository adSpaceReactiveRepository;
+    private final BookingRequestReactiveRepository bookingRequestReactiveRepository;
+
+    @Override
+    public Flux<AdSpaceResponseDto> getAvailableAdSpaces(String type, String city) {
+        AdSpaceType adSpaceType;
+        try {
+            adSpaceType = type == null ? null : AdSpaceType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Flux.error(new NotFoundException("Invalid ad space type: " + type));
+        }
+        return adSpaceReactiveRepository.findByStatus(AdSpaceStatus.AVAILABLE, adSpaceType, city);
+    }
+
+    @Override
+    public Mono<AdSpaceResponseDto> getAdSpaceById(Long id) {
+        return adSpaceReactiveRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Ad space not found with id: " + id)));
+    }
+
+    @Override
+    public Flux<BookingResponseDto> getAllBookings(Optional<BookingStatus> status) {
+        return status.map(bookingRequestReactiveRepository::findByStatus)
+                .orElseGet(bookingRequestReactiveRepository::findAll);
+    }
+}
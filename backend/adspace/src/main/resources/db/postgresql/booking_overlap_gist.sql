@@ -0,0 +1,16 @@
+-- GiST index for booking overlap checks on PostgreSQL. Hibernate does not create it (ddl-auto only knows
+-- B-tree indexes), so run this once per database, e.g.  psql -f booking_overlap_gist.sql
+--
+-- Overlap predicates are rendered as  start_date <= ? AND end_date >= ? AND
+-- daterange(start_date, end_date, '[]') && daterange(?, ?, '[]')  (see DateRangeFunctionContributor). This index
+-- answers the range part as a true interval search, whereas the idx_booking_composite B-tree can only bound
+-- start_date and has to filter every earlier booking on end_date. Without it, the plain bounds keep the B-tree
+-- usable.
+-- btree_gist lets the equality columns share the index with the range.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_booking_overlap
+    ON booking_request USING gist (ad_space_id, status, daterange(start_date, end_date, '[]'));
+
+ANALYZE booking_request;
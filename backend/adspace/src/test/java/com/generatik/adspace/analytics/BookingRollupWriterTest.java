@@ -0,0 +1,74 @@
+package com.generatik.adspace.analytics;
+
+import com.generatik.adspace.analytics.BookingRollupWriter.BucketKey;
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.entity.AdSpaceRollup;
+import com.generatik.adspace.entity.RollupGranularity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingRollupWriterTest {
+
+    @Test
+    @DisplayName("Should split a booking over the buckets it covers, prorating revenue by days")
+    void rollupsOf_SplitsAcrossBuckets() {
+        // Monday 2030-01-28 to Sunday 2030-02-10: 4 days in January, 10 in February, two full weeks
+        BookingResponseDto booking = booking(1L, LocalDate.of(2030, 1, 28), LocalDate.of(2030, 2, 10), "1000.00");
+
+        Map<BucketKey, AdSpaceRollup> rollups = BookingRollupWriter.rollupsOf(List.of(booking));
+
+        assertRollup(rollups, 1L, RollupGranularity.MONTH, LocalDate.of(2030, 1, 1), 4, "285.71");
+        assertRollup(rollups, 1L, RollupGranularity.MONTH, LocalDate.of(2030, 2, 1), 10, "714.29");
+        assertRollup(rollups, 1L, RollupGranularity.WEEK, LocalDate.of(2030, 1, 28), 7, "500.00");
+        assertRollup(rollups, 1L, RollupGranularity.WEEK, LocalDate.of(2030, 2, 4), 7, "500.00");
+        assertThat(rollups.keySet()).filteredOn(key -> key.granularity() == RollupGranularity.DAY).hasSize(14);
+    }
+
+    @Test
+    @DisplayName("Should make every granularity add up to the booking totals exactly")
+    void rollupsOf_TotalsMatchBookings() {
+        List<BookingResponseDto> bookings = List.of(
+                booking(1L, LocalDate.of(2030, 3, 25), LocalDate.of(2030, 4, 7), "1000.00"),
+                booking(1L, LocalDate.of(2030, 4, 20), LocalDate.of(2030, 5, 2), "333.33"),
+                booking(2L, LocalDate.of(2030, 4, 1), LocalDate.of(2030, 4, 7), "70.00"));
+
+        Map<BucketKey, AdSpaceRollup> rollups = BookingRollupWriter.rollupsOf(bookings);
+
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            List<AdSpaceRollup> rows = rollups.values().stream()
+                    .filter(rollup -> rollup.getGranularity() == granularity)
+                    .toList();
+            assertThat(rows.stream().mapToInt(AdSpaceRollup::getBookedDays).sum()).isEqualTo(14 + 13 + 7);
+            assertThat(rows.stream().map(AdSpaceRollup::getRevenue).reduce(BigDecimal.ZERO, BigDecimal::add))
+                    .isEqualByComparingTo("1403.33");
+        }
+        // Both ad space 1 bookings land in April; ad space 2 keeps its own row
+        assertRollup(rollups, 2L, RollupGranularity.MONTH, LocalDate.of(2030, 4, 1), 7, "70.00");
+        assertThat(rollups.get(new BucketKey(1L, RollupGranularity.MONTH, LocalDate.of(2030, 4, 1))).getBookedDays())
+                .isEqualTo(7 + 11);
+    }
+
+    private static void assertRollup(Map<BucketKey, AdSpaceRollup> rollups, Long adSpaceId,
+                                     RollupGranularity granularity, LocalDate bucketStart, int days, String revenue) {
+        AdSpaceRollup rollup = rollups.get(new BucketKey(adSpaceId, granularity, bucketStart));
+        assertThat(rollup).isNotNull();
+        assertThat(rollup.getBookedDays()).isEqualTo(days);
+        assertThat(rollup.getRevenue()).isEqualByComparingTo(revenue);
+    }
+
+    private static BookingResponseDto booking(Long adSpaceId, LocalDate start, LocalDate end, String totalCost) {
+        return BookingResponseDto.builder()
+                .adSpaceId(adSpaceId)
+                .startDate(start)
+                .endDate(end)
+                .totalCost(new BigDecimal(totalCost))
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.generatik.adspace.availability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.event.AdSpaceChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityBroadcasterTest {
+
+    private static final int SUBSCRIBER_BUFFER = 3;
+
+    private AvailabilityBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new AvailabilityBroadcaster(new ObjectMapper(), new SimpleMeterRegistry(),
+                Duration.ofMinutes(1), 100, SUBSCRIBER_BUFFER, 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("A subscriber that stops reading should be dropped without holding up the others")
+    void broadcast_DropsStalledSubscriber() throws Exception {
+        // Arrange: the stalled client blocks on its first write, as with a full TCP window
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingEmitter stalled = new RecordingEmitter(unblock);
+        RecordingEmitter reading = new RecordingEmitter(null);
+        broadcaster.subscribe(stalled, null);
+        broadcaster.subscribe(reading, null);
+
+        // Act: the reading client keeps up with every delta
+        int deltas = SUBSCRIBER_BUFFER + 3;
+        for (int id = 1; id <= deltas; id++) {
+            broadcaster.onAdSpaceChanged(new AdSpaceChangedEvent((long) id, AdSpaceType.BILLBOARD, "New York",
+                    AdSpaceStatus.AVAILABLE, false));
+            int received = id;
+            await(() -> reading.events.size() == received);
+        }
+
+        // Assert
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        assertThat(stalled.completed.getCount()).isEqualTo(1);
+
+        unblock.countDown();
+        assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stalled.events).hasSize(1);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * Records what would be written to the client, optionally blocking on the first write until released.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<DataWithMediaType>> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch unblock;
+
+        private RecordingEmitter(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            events.add(items);
+            if (unblock != null) {
+                try {
+                    unblock.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
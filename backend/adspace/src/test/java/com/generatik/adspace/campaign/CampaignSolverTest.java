@@ -0,0 +1,111 @@
+package com.generatik.adspace.campaign;
+
+import com.generatik.adspace.campaign.CampaignSolver.Candidate;
+import com.generatik.adspace.campaign.CampaignSolver.Option;
+import com.generatik.adspace.campaign.CampaignSolver.Problem;
+import com.generatik.adspace.campaign.CampaignSolver.Solution;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CampaignSolverTest {
+
+    private final CampaignSolver solver = new CampaignSolver(2, Duration.ofSeconds(10));
+
+    @AfterEach
+    void tearDown() {
+        solver.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should pick the cheapest free ad spaces per window and rank sets by total cost")
+    void solve_CheapestSetsFirst() {
+        // Cheapest space is busy on days 0-9, so the cheapest pair is only free from day 10
+        List<Candidate> candidates = List.of(
+                candidate(1L, "10", busy(0, 9)),
+                candidate(2L, "20", new BitSet()),
+                candidate(3L, "30", new BitSet()));
+
+        Solution solution = solver.solve(new Problem(candidates, 30, 7, 2, null, 10));
+
+        assertThat(solution.complete()).isTrue();
+        assertThat(solution.options()).extracting(Option::windowStart).containsExactly(10, 0);
+        assertThat(ids(solution.options().get(0))).containsExactly(1L, 2L);
+        assertThat(solution.options().get(0).totalCost()).isEqualByComparingTo("210");
+        assertThat(ids(solution.options().get(1))).containsExactly(2L, 3L);
+        assertThat(solution.options().get(1).totalCost()).isEqualByComparingTo("350");
+    }
+
+    @Test
+    @DisplayName("Should drop sets over budget")
+    void solve_WithinBudget() {
+        List<Candidate> candidates = List.of(
+                candidate(1L, "10", busy(0, 9)),
+                candidate(2L, "20", new BitSet()),
+                candidate(3L, "30", new BitSet()));
+
+        Solution solution = solver.solve(new Problem(candidates, 30, 7, 2, new BigDecimal("300"), 10));
+
+        assertThat(solution.options()).hasSize(1);
+        assertThat(ids(solution.options().get(0))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should find nothing when too few ad spaces are free together")
+    void solve_NoCommonWindow() {
+        List<Candidate> candidates = List.of(
+                candidate(1L, "10", busy(3, 3)),
+                candidate(2L, "10", busy(10, 10)));
+
+        Solution solution = solver.solve(new Problem(candidates, 14, 7, 2, null, 10));
+
+        assertThat(solution.options()).isEmpty();
+        assertThat(solution.complete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should return a partial result once the deadline has passed")
+    void solve_Deadline() {
+        CampaignSolver expired = new CampaignSolver(2, Duration.ZERO);
+        try {
+            Solution solution = expired.solve(new Problem(
+                    List.of(candidate(1L, "10", new BitSet())), 30, 7, 1, null, 10));
+
+            assertThat(solution.complete()).isFalse();
+        } finally {
+            expired.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should count time spent before solving against the deadline")
+    void solve_DeadlineCountsFromStart() {
+        long startedAt = System.nanoTime() - Duration.ofMinutes(1).toNanos();
+
+        Solution solution = solver.solve(new Problem(
+                List.of(candidate(1L, "10", new BitSet())), 30, 7, 1, null, 10), startedAt);
+
+        assertThat(solution.complete()).isFalse();
+    }
+
+    private static Candidate candidate(Long id, String pricePerDay, BitSet busy) {
+        return new Candidate(id, "Space " + id, new BigDecimal(pricePerDay), busy);
+    }
+
+    private static BitSet busy(int fromDay, int toDay) {
+        BitSet bits = new BitSet();
+        bits.set(fromDay, toDay + 1);
+        return bits;
+    }
+
+    private static List<Long> ids(Option option) {
+        return option.adSpaces().stream().map(Candidate::id).toList();
+    }
+}
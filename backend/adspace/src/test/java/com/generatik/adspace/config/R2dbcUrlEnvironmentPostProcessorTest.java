@@ -0,0 +1,46 @@
+package com.generatik.adspace.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class R2dbcUrlEnvironmentPostProcessorTest {
+
+    private final R2dbcUrlEnvironmentPostProcessor postProcessor = new R2dbcUrlEnvironmentPostProcessor();
+
+    @Test
+    void postProcessEnvironment_DerivesUrlFromJdbcUrl() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.url", "jdbc:postgresql://db:5432/adspace?sslmode=require")
+                .withProperty("spring.r2dbc.url", "");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("spring.r2dbc.url"))
+                .isEqualTo("r2dbc:postgresql://db:5432/adspace?sslmode=require");
+    }
+
+    @Test
+    void postProcessEnvironment_KeepsExplicitUrl() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.url", "jdbc:postgresql://db:5432/adspace")
+                .withProperty("spring.r2dbc.url", "r2dbc:postgresql://other:5432/adspace");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("spring.r2dbc.url")).isEqualTo("r2dbc:postgresql://other:5432/adspace");
+    }
+
+    @Test
+    void postProcessEnvironment_IgnoresUnresolvedJdbcUrl() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.url", "${UNSET_DB_URL}");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getPropertySources().contains(R2dbcUrlEnvironmentPostProcessor.PROPERTY_SOURCE))
+                .isFalse();
+    }
+}
@@ -0,0 +1,23 @@
+package com.generatik.adspace.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SampledSqlStatementInspectorTest {
+
+    @Test
+    void inspect_ReturnsStatementUnchanged() {
+        SampledSqlStatementInspector inspector = new SampledSqlStatementInspector(1);
+
+        assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+    }
+
+    @Test
+    void constructor_RejectsRateOutsideUnitInterval() {
+        assertThatThrownBy(() -> new SampledSqlStatementInspector(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SampledSqlStatementInspector(1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SampledSqlStatementInspector(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
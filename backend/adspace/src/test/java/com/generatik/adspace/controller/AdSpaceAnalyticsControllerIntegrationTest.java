@@ -0,0 +1,168 @@
+package com.generatik.adspace.controller;
+
+import com.generatik.adspace.analytics.BookingRollupRebuilder;
+import com.generatik.adspace.entity.*;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.AdSpaceRollupRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class AdSpaceAnalyticsControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    @Autowired
+    private AdSpaceRollupRepository adSpaceRollupRepository;
+
+    @Autowired
+    private BookingRollupRebuilder bookingRollupRebuilder;
+
+    private AdSpace billboard;
+    private AdSpace busStop;
+
+    @BeforeEach
+    void setUp() {
+        adSpaceRollupRepository.deleteAll();
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+
+        billboard = adSpaceRepository.save(adSpace("Billboard Downtown", AdSpaceType.BILLBOARD, "New York", 100));
+        busStop = adSpaceRepository.save(adSpace("Bus Stop Broadway", AdSpaceType.BUS_STOP, "New York", 50));
+        adSpaceRepository.save(adSpace("Billboard Sunset", AdSpaceType.BILLBOARD, "Los Angeles", 80));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/analytics/ad-spaces - Should report approvals per city and month")
+    void getAnalytics_ByCity_FollowsApprovals() throws Exception {
+        // 2030-03-25 to 2030-04-07: 7 days in March and 7 in April
+        BookingRequest first = pendingBooking(billboard, LocalDate.of(2030, 3, 25), LocalDate.of(2030, 4, 7));
+        BookingRequest second = pendingBooking(busStop, LocalDate.of(2030, 4, 1), LocalDate.of(2030, 4, 10));
+        pendingBooking(busStop, LocalDate.of(2030, 4, 20), LocalDate.of(2030, 4, 30));
+
+        mockMvc.perform(patch("/api/v1/booking-requests/" + first.getId() + "/approve")).andExpect(status().isOk());
+        mockMvc.perform(patch("/api/v1/booking-requests/" + second.getId() + "/approve")).andExpect(status().isOk());
+
+        // Pending bookings are not counted; April capacity is 2 New York ad spaces x 30 days
+        mockMvc.perform(get("/api/v1/analytics/ad-spaces")
+                        .param("from", "2030-03-01")
+                        .param("to", "2030-04-30")
+                        .param("granularity", "month")
+                        .param("groupBy", "city"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("MONTH"))
+                .andExpect(jsonPath("$.groupBy").value("CITY"))
+                .andExpect(jsonPath("$.rows", hasSize(2)))
+                .andExpect(jsonPath("$.rows[0].group").value("New York"))
+                .andExpect(jsonPath("$.rows[0].bucketStart").value("2030-03-01"))
+                .andExpect(jsonPath("$.rows[0].bucketEnd").value("2030-03-31"))
+                .andExpect(jsonPath("$.rows[0].adSpaces").value(2))
+                .andExpect(jsonPath("$.rows[0].bookedDays").value(7))
+                .andExpect(jsonPath("$.rows[0].revenue").value(700.0))
+                .andExpect(jsonPath("$.rows[1].bucketStart").value("2030-04-01"))
+                .andExpect(jsonPath("$.rows[1].bookedDays").value(17))
+                .andExpect(jsonPath("$.rows[1].occupancyRate").value(0.2833))
+                .andExpect(jsonPath("$.rows[1].revenue").value(1200.0));
+
+        // The week containing the start of the range is included in full
+        mockMvc.perform(get("/api/v1/analytics/ad-spaces")
+                        .param("from", "2030-04-03")
+                        .param("to", "2030-04-07")
+                        .param("granularity", "WEEK")
+                        .param("type", "BUS_STOP"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2030-04-01"))
+                .andExpect(jsonPath("$.rows", hasSize(1)))
+                .andExpect(jsonPath("$.rows[0].group").value(String.valueOf(busStop.getId())))
+                .andExpect(jsonPath("$.rows[0].bookedDays").value(7))
+                .andExpect(jsonPath("$.rows[0].occupancyRate").value(1.0))
+                .andExpect(jsonPath("$.rows[0].revenue").value(350.0));
+    }
+
+    @Test
+    @DisplayName("Rebuilding the rollups from the bookings should give the incrementally maintained rows")
+    void rebuild_MatchesIncrementalRollups() throws Exception {
+        BookingRequest first = pendingBooking(billboard, LocalDate.of(2030, 1, 27), LocalDate.of(2030, 2, 9));
+        BookingRequest second = pendingBooking(billboard, LocalDate.of(2030, 2, 10), LocalDate.of(2030, 3, 3));
+        mockMvc.perform(patch("/api/v1/booking-requests/" + first.getId() + "/approve")).andExpect(status().isOk());
+        mockMvc.perform(patch("/api/v1/booking-requests/" + second.getId() + "/approve")).andExpect(status().isOk());
+        List<String> incremental = snapshot();
+
+        bookingRollupRebuilder.rebuild();
+
+        assertThat(incremental).hasSize(14 + 22 + 6 + 3);
+        assertThat(snapshot()).isEqualTo(incremental);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/analytics/ad-spaces - Should reject an unknown granularity with 400")
+    void getAnalytics_InvalidGranularity() throws Exception {
+        mockMvc.perform(get("/api/v1/analytics/ad-spaces")
+                        .param("from", "2030-01-01")
+                        .param("to", "2030-12-31")
+                        .param("granularity", "QUARTER"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Invalid granularity")));
+    }
+
+    private List<String> snapshot() {
+        adSpaceRollupRepository.flush();
+        return adSpaceRollupRepository.findAll().stream()
+                .sorted(Comparator.comparing(AdSpaceRollup::getGranularity).thenComparing(AdSpaceRollup::getBucketStart))
+                .map(rollup -> rollup.getAdSpaceId() + " " + rollup.getGranularity() + " " + rollup.getBucketStart() +
+                        " " + rollup.getBookedDays() + " " + rollup.getRevenue().stripTrailingZeros().toPlainString())
+                .toList();
+    }
+
+    private BookingRequest pendingBooking(AdSpace adSpace, LocalDate start, LocalDate end) {
+        long days = end.toEpochDay() - start.toEpochDay() + 1;
+        return bookingRequestRepository.save(BookingRequest.builder()
+                .adSpace(adSpace)
+                .advertiserName("Jane Smith")
+                .advertiserEmail("jane@example.com")
+                .startDate(start)
+                .endDate(end)
+                .status(BookingStatus.PENDING)
+                .totalCost(adSpace.getPricePerDay().multiply(BigDecimal.valueOf(days)))
+                .build());
+    }
+
+    private static AdSpace adSpace(String name, AdSpaceType type, String city, int pricePerDay) {
+        return AdSpace.builder()
+                .name(name)
+                .type(type)
+                .city(city)
+                .address("1 Test Street")
+                .pricePerDay(BigDecimal.valueOf(pricePerDay))
+                .status(AdSpaceStatus.AVAILABLE)
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.generatik.adspace.controller;
+
+import com.generatik.adspace.availability.AvailabilityBroadcaster;
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.dto.booking.CreateBookingRequestDto;
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import com.generatik.adspace.service.BookingRequestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Subscribes to the availability stream and checks that committed changes arrive as SSE frames.
+ * Not transactional: deltas are only pushed after commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdSpaceAvailabilityStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingRequestService bookingRequestService;
+
+    @Autowired
+    private AvailabilityBroadcaster availabilityBroadcaster;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    private AdSpace billboard;
+
+    @BeforeEach
+    void setUp() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+        billboard = adSpaceRepository.save(AdSpace.builder()
+                .name("Billboard Downtown")
+                .type(AdSpaceType.BILLBOARD)
+                .city("New York")
+                .address("123 Main St")
+                .pricePerDay(BigDecimal.valueOf(100))
+                .status(AdSpaceStatus.AVAILABLE)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/ad-spaces/availability - Should push approvals and status changes to every subscriber")
+    void streamAvailability_PushesDeltas() throws Exception {
+        // Arrange
+        int before = availabilityBroadcaster.getSubscriberCount();
+        List<MockHttpServletResponse> streams = List.of(subscribe(null), subscribe(null));
+        await(() -> availabilityBroadcaster.getSubscriberCount() == before + 2);
+        BookingResponseDto booking = bookingRequestService.createBooking(CreateBookingRequestDto.builder()
+                .adSpaceId(billboard.getId())
+                .advertiserName("John Doe")
+                .advertiserEmail("john.doe@example.com")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(8))
+                .build());
+
+        // Act
+        bookingRequestService.approveBooking(booking.getId());
+        billboard.setStatus(AdSpaceStatus.MAINTENANCE);
+        adSpaceRepository.save(billboard);
+
+        // Assert
+        for (MockHttpServletResponse stream : streams) {
+            await(() -> content(stream).contains("\"status\":\"MAINTENANCE\""));
+            String content = content(stream);
+            assertThat(content).contains("event:availability");
+            assertThat(content).contains("\"change\":\"BOOKING_APPROVED\",\"adSpaceId\":" + billboard.getId()
+                    + ",\"bookedFrom\":\"" + booking.getStartDate() + "\"");
+            assertThat(content.indexOf("BOOKING_APPROVED")).isLessThan(content.indexOf("MAINTENANCE"));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/ad-spaces/availability - Should replay missed deltas after Last-Event-ID, or ask to resync")
+    void streamAvailability_ReplaysAfterLastEventId() throws Exception {
+        // Arrange
+        MockHttpServletResponse first = subscribe(null);
+        billboard.setStatus(AdSpaceStatus.BOOKED);
+        adSpaceRepository.save(billboard);
+        await(() -> content(first).contains("\"status\":\"BOOKED\""));
+        String lastId = lastEventId(content(first));
+
+        billboard.setStatus(AdSpaceStatus.AVAILABLE);
+        adSpaceRepository.save(billboard);
+
+        // Act
+        MockHttpServletResponse resumed = subscribe(lastId);
+
+        // Assert
+        await(() -> content(resumed).contains("\"status\":\"AVAILABLE\""));
+        assertThat(content(resumed)).doesNotContain("\"status\":\"BOOKED\"");
+
+        MockHttpServletResponse unknown = subscribe(String.valueOf(Long.MAX_VALUE));
+        await(() -> content(unknown).contains("\"change\":\"RESYNC\""));
+
+        // An id issued by another process (or before a restart) cannot be resumed from either
+        String otherEpoch = "0" + lastId.substring(lastId.lastIndexOf('-'));
+        MockHttpServletResponse restarted = subscribe(otherEpoch);
+        await(() -> content(restarted).contains("\"change\":\"RESYNC\""));
+        assertThat(content(restarted)).doesNotContain("\"status\":\"AVAILABLE\"");
+    }
+
+    private MockHttpServletResponse subscribe(String lastEventId) throws Exception {
+        var subscription = get("/api/v1/ad-spaces/availability");
+        if (lastEventId != null) {
+            subscription.header("Last-Event-ID", lastEventId);
+        }
+        MvcResult result = mockMvc.perform(subscription)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return result.getResponse();
+    }
+
+    private static String content(MockHttpServletResponse response) {
+        try {
+            return response.getContentAsString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String lastEventId(String content) {
+        String id = null;
+        for (String line : content.split("\n")) {
+            if (line.startsWith("id:")) {
+                id = line.substring(3);
+            }
+        }
+        return id;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
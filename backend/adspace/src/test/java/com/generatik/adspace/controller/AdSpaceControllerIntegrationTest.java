@@ -0,0 +1,218 @@
+package com.generatik.adspace.controller;
+
+import com.generatik.adspace.entity.*;
+import com.generatik.adspace.index.AvailabilityCalendarLoader;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import com.generatik.adspace.search.AdSpaceSearchIndexLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class AdSpaceControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    @Autowired
+    private AvailabilityCalendarLoader availabilityCalendarLoader;
+
+    @Autowired
+    private AdSpaceSearchIndexLoader adSpaceSearchIndexLoader;
+
+    private AdSpace cheapBillboard;
+    private AdSpace expensiveBillboard;
+    private AdSpace busStop;
+
+    @BeforeEach
+    void setUp() {
+        // Clean up
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+
+        cheapBillboard = adSpaceRepository.save(adSpace("Cheap Billboard", AdSpaceType.BILLBOARD, 100, AdSpaceStatus.AVAILABLE));
+        expensiveBillboard = adSpaceRepository.save(adSpace("Expensive Billboard", AdSpaceType.BILLBOARD, 500, AdSpaceStatus.AVAILABLE));
+        busStop = adSpaceRepository.save(adSpace("Bus Stop", AdSpaceType.BUS_STOP, 50, AdSpaceStatus.AVAILABLE));
+        adSpaceRepository.save(adSpace("Closed Billboard", AdSpaceType.BILLBOARD, 10, AdSpaceStatus.MAINTENANCE));
+
+        // Approved booking on the cheap billboard from day 10 to day 20
+        bookingRequestRepository.save(BookingRequest.builder()
+                .adSpace(cheapBillboard)
+                .advertiserName("John Doe")
+                .advertiserEmail("john.doe@example.com")
+                .startDate(LocalDate.now().plusDays(10))
+                .endDate(LocalDate.now().plusDays(20))
+                .status(BookingStatus.APPROVED)
+                .totalCost(BigDecimal.valueOf(1100))
+                .build());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/ad-spaces?from&to - Should exclude ad spaces booked in the window, sorted by price")
+    void getAdSpacesAvailableBetween_ExcludesBooked() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/ad-spaces")
+                        .param("from", LocalDate.now().plusDays(15).toString())
+                        .param("to", LocalDate.now().plusDays(25).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(busStop.getId()))
+                .andExpect(jsonPath("$.items[1].id").value(expensiveBillboard.getId()));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/ad-spaces?from&to - Should include ad spaces whose bookings fall outside the window")
+    void getAdSpacesAvailableBetween_OutsideWindow() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/ad-spaces")
+                        .param("from", LocalDate.now().plusDays(21).toString())
+                        .param("to", LocalDate.now().plusDays(30).toString())
+                        .param("type", "billboard")
+                        .param("direction", "desc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id").value(expensiveBillboard.getId()));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/ad-spaces?from&to - Should return 400 when the range is reversed")
+    void getAdSpacesAvailableBetween_InvalidRange() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/ad-spaces")
+                        .param("from", LocalDate.now().plusDays(10).toString())
+                        .param("to", LocalDate.now().plusDays(5).toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("date range")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/ad-spaces/{id}/calendar - Should return booked days as a bitmap")
+    void getCalendar_FromBitmap() throws Exception {
+        availabilityCalendarLoader.rebuild();
+
+        // Days 8..23: the booking covers bits 2..12, i.e. bytes 0xFC 0x1F
+        mockMvc.perform(get("/api/v1/ad-spaces/" + cheapBillboard.getId() + "/calendar")
+                        .param("from", LocalDate.now().plusDays(8).toString())
+                        .param("to", LocalDate.now().plusDays(23).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days").value(16))
+                .andExpect(jsonPath("$.bookedDays").value(11))
+                .andExpect(jsonPath("$.bitmap").value("/B8="));
+
+        mockMvc.perform(get("/api/v1/ad-spaces/" + busStop.getId() + "/calendar")
+                        .param("from", LocalDate.now().plusDays(8).toString())
+                        .param("to", LocalDate.now().plusDays(23).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookedDays").value(0))
+                .andExpect(jsonPath("$.bitmap").value("AAA="));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/ad-spaces/{id}/calendar - Should compute ranges outside the horizon from the bookings")
+    void getCalendar_OutsideHorizon() throws Exception {
+        // Days -5..12: the booking covers bits 15..17, i.e. bytes 0x00 0x80 0x03
+        mockMvc.perform(get("/api/v1/ad-spaces/" + cheapBillboard.getId() + "/calendar")
+                        .param("from", LocalDate.now().minusDays(5).toString())
+                        .param("to", LocalDate.now().plusDays(12).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days").value(18))
+                .andExpect(jsonPath("$.bookedDays").value(3))
+                .andExpect(jsonPath("$.bitmap").value("AIAD"));
+
+        mockMvc.perform(get("/api/v1/ad-spaces/999999/calendar")
+                        .param("from", LocalDate.now().toString())
+                        .param("to", LocalDate.now().plusDays(7).toString()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/ad-spaces/search - Should match misspelled and unfinished words across the catalog")
+    void search_FuzzyText() throws Exception {
+        adSpaceSearchIndexLoader.rebuild();
+
+        mockMvc.perform(get("/api/v1/ad-spaces/search").param("q", "bilboard expens"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.items[0].adSpace.id").value(expensiveBillboard.getId()))
+                .andExpect(jsonPath("$.items[0].score").isNumber());
+
+        // Ad spaces under maintenance or booked today are part of the catalog too
+        mockMvc.perform(get("/api/v1/ad-spaces/search")
+                        .param("q", "new york")
+                        .param("type", "billboard")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.items", hasSize(2)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/ad-spaces/search - Should return ad spaces within the radius, nearest first")
+    void search_WithinRadius() throws Exception {
+        locate(cheapBillboard, 40.7580, -73.9855);   // Times Square
+        locate(busStop, 40.7527, -73.9772);          // Grand Central, under 1 km away
+        locate(expensiveBillboard, 40.6892, -74.0445); // Liberty Island, about 9 km away
+        adSpaceSearchIndexLoader.rebuild();
+
+        mockMvc.perform(get("/api/v1/ad-spaces/search")
+                        .param("lat", "40.7580")
+                        .param("lon", "-73.9855")
+                        .param("radiusKm", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.items[0].adSpace.id").value(cheapBillboard.getId()))
+                .andExpect(jsonPath("$.items[0].distanceKm").value(0.0))
+                .andExpect(jsonPath("$.items[1].adSpace.id").value(busStop.getId()))
+                .andExpect(jsonPath("$.items[1].adSpace.latitude").value(40.7527))
+                .andExpect(jsonPath("$.items[1].distanceKm", closeTo(0.9, 0.1)));
+
+        mockMvc.perform(get("/api/v1/ad-spaces/search")
+                        .param("lat", "40.7580")
+                        .param("lon", "-73.9855"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void locate(AdSpace adSpace, double latitude, double longitude) {
+        adSpace.setLatitude(latitude);
+        adSpace.setLongitude(longitude);
+        adSpaceRepository.save(adSpace);
+    }
+
+    private static AdSpace adSpace(String name, AdSpaceType type, int pricePerDay, AdSpaceStatus status) {
+        return AdSpace.builder()
+                .name(name)
+                .type(type)
+                .city("New York")
+                .address("123 Main St")
+                .pricePerDay(BigDecimal.valueOf(pricePerDay))
+                .status(status)
+                .build();
+    }
+}
@@ -1,7 +1,10 @@
 package com.generatik.adspace.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generatik.adspace.dto.booking.BookingDecisionBatchRequestDto;
+import com.generatik.adspace.dto.booking.CreateBookingBatchRequestDto;
 import com.generatik.adspace.dto.booking.CreateBookingRequestDto;
+import com.generatik.adspace.dto.booking.PendingBookingFilterDto;
 import com.generatik.adspace.entity.*;
 import com.generatik.adspace.repository.AdSpaceRepository;
 import com.generatik.adspace.repository.BookingRequestRepository;
@@ -18,7 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -146,6 +151,104 @@ class BookingRequestControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value(containsString("Minimum booking duration")));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/booking-requests - Should replay the original response for a repeated Idempotency-Key")
+    void createBooking_IdempotencyKey_Replayed() throws Exception {
+        // Arrange
+        String body = objectMapper.writeValueAsString(CreateBookingRequestDto.builder()
+                .adSpaceId(testAdSpace.getId())
+                .advertiserName("John Doe")
+                .advertiserEmail("john.doe@example.com")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(8))
+                .build());
+        String key = "create-" + testAdSpace.getId();
+
+        // Act
+        String first = mockMvc.perform(post("/api/v1/booking-requests")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        mockMvc.perform(post("/api/v1/booking-requests")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content().json(first, true));
+        assertThat(bookingRequestRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/booking-requests - Should return 400 when an Idempotency-Key is reused for another request")
+    void createBooking_IdempotencyKey_DifferentRequest() throws Exception {
+        // Arrange
+        CreateBookingRequestDto request = bookingRequest(testAdSpace.getId(), "john.doe@example.com", 8);
+        String key = "reuse-" + testAdSpace.getId();
+        mockMvc.perform(post("/api/v1/booking-requests")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/booking-requests")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                bookingRequest(testAdSpace.getId(), "john.doe@example.com", 9))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Idempotency-Key")));
+        assertThat(bookingRequestRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/booking-requests/batch - Should create valid items and report each failure")
+    void createBookings_Batch_PerItemResults() throws Exception {
+        // Arrange
+        CreateBookingRequestDto valid = bookingRequest(testAdSpace.getId(), "john.doe@example.com", 8);
+        CreateBookingRequestDto invalidEmail = bookingRequest(testAdSpace.getId(), "invalid-email", 8);
+        CreateBookingRequestDto unknownAdSpace = bookingRequest(999999L, "john.doe@example.com", 8);
+        CreateBookingRequestDto tooShort = bookingRequest(testAdSpace.getId(), "john.doe@example.com", 3);
+        CreateBookingBatchRequestDto request = CreateBookingBatchRequestDto.builder()
+                .bookings(List.of(valid, invalidEmail, unknownAdSpace, tooShort, valid))
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/booking-requests/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[0].booking.id").exists())
+                .andExpect(jsonPath("$.results[0].booking.status").value("PENDING"))
+                .andExpect(jsonPath("$.results[1].success").value(false))
+                .andExpect(jsonPath("$.results[1].errors[0]").value(containsString("advertiserEmail")))
+                .andExpect(jsonPath("$.results[2].message").value(containsString("Ad space not found")))
+                .andExpect(jsonPath("$.results[3].message").value(containsString("Minimum booking duration")))
+                .andExpect(jsonPath("$.results[4].success").value(true));
+
+        assertThat(bookingRequestRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/booking-requests/batch - Should return 400 for an empty batch")
+    void createBookings_Batch_Empty() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/booking-requests/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookings\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"));
+    }
+
     @Test
     @DisplayName("GET /api/v1/booking-requests/{id} - Should return booking details with 200")
     void getBookingById_Success() throws Exception {
@@ -200,6 +303,26 @@ class BookingRequestControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("APPROVED"));
     }
 
+    @Test
+    @DisplayName("PATCH /api/v1/booking-requests/{id}/approve - Should auto-reject overlapping pending bookings")
+    void approveBooking_RejectsOverlappingPending() throws Exception {
+        // Arrange
+        BookingRequest toApprove = bookingRequestRepository.save(pendingBooking(1, 8));
+        BookingRequest overlapping = bookingRequestRepository.save(pendingBooking(5, 12));
+        BookingRequest disjoint = bookingRequestRepository.save(pendingBooking(9, 16));
+
+        // Act
+        mockMvc.perform(patch("/api/v1/booking-requests/" + toApprove.getId() + "/approve"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+
+        // Assert
+        mockMvc.perform(get("/api/v1/booking-requests/" + overlapping.getId()))
+                .andExpect(jsonPath("$.status").value("REJECTED"));
+        mockMvc.perform(get("/api/v1/booking-requests/" + disjoint.getId()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
     @Test
     @DisplayName("PATCH /api/v1/booking-requests/{id}/approve - Should return 400 when booking is not pending")
     void approveBooking_InvalidTransition() throws Exception {
@@ -243,6 +366,81 @@ class BookingRequestControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("REJECTED"));
     }
 
+    @Test
+    @DisplayName("PATCH /api/v1/booking-requests/batch/approve - Should approve in order and report each booking")
+    void approveBookings_Batch_PerBookingResults() throws Exception {
+        // Arrange
+        BookingRequest first = bookingRequestRepository.save(pendingBooking(1, 8));
+        BookingRequest overlapsFirst = bookingRequestRepository.save(pendingBooking(5, 12));
+        BookingRequest notRequested = bookingRequestRepository.save(pendingBooking(3, 10));
+        BookingRequest disjoint = bookingRequestRepository.save(pendingBooking(20, 27));
+        BookingRequest approved = pendingBooking(30, 37);
+        approved.setStatus(BookingStatus.APPROVED);
+        approved = bookingRequestRepository.save(approved);
+        BookingDecisionBatchRequestDto request = BookingDecisionBatchRequestDto.builder()
+                .ids(List.of(first.getId(), overlapsFirst.getId(), approved.getId(), 999999L))
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/booking-requests/batch/approve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.autoRejected").value(1))
+                .andExpect(jsonPath("$.results[0].success").value(true))
+                .andExpect(jsonPath("$.results[0].booking.status").value("APPROVED"))
+                .andExpect(jsonPath("$.results[1].success").value(false))
+                .andExpect(jsonPath("$.results[1].booking.status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].message").value(containsString("approved earlier in this batch")))
+                .andExpect(jsonPath("$.results[2].message").value(containsString("Only PENDING bookings can be approved")))
+                .andExpect(jsonPath("$.results[3].id").value(999999))
+                .andExpect(jsonPath("$.results[3].message").value(containsString("not found")));
+
+        mockMvc.perform(get("/api/v1/booking-requests/" + notRequested.getId()))
+                .andExpect(jsonPath("$.status").value("REJECTED"));
+        mockMvc.perform(get("/api/v1/booking-requests/" + disjoint.getId()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/booking-requests/batch/reject - Should reject the pending bookings matching a filter")
+    void rejectBookings_Batch_Filter() throws Exception {
+        // Arrange
+        BookingRequest early = bookingRequestRepository.save(pendingBooking(1, 8));
+        BookingRequest late = bookingRequestRepository.save(pendingBooking(40, 47));
+        BookingDecisionBatchRequestDto request = BookingDecisionBatchRequestDto.builder()
+                .filter(PendingBookingFilterDto.builder()
+                        .adSpaceId(testAdSpace.getId())
+                        .startDateTo(LocalDate.now().plusDays(30))
+                        .build())
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/v1/booking-requests/batch/reject")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results", hasSize(1)))
+                .andExpect(jsonPath("$.results[0].id").value(early.getId()))
+                .andExpect(jsonPath("$.results[0].booking.status").value("REJECTED"));
+
+        mockMvc.perform(get("/api/v1/booking-requests/" + late.getId()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/booking-requests/batch/reject - Should return 400 without ids or filter")
+    void rejectBookings_Batch_NoSelection() throws Exception {
+        mockMvc.perform(patch("/api/v1/booking-requests/batch/reject")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("either booking ids or a filter")));
+    }
+
     @Test
     @DisplayName("GET /api/v1/booking-requests - Should return all bookings")
     void getAllBookings_Success() throws Exception {
@@ -287,5 +485,94 @@ class BookingRequestControllerIntegrationTest {
                 .andExpect(jsonPath("$[*].status", everyItem(is("PENDING"))));
     }
 
-}
+    @Test
+    @DisplayName("GET /api/v1/booking-requests/page - Should page through bookings with a cursor")
+    void getBookingPage_FollowsCursor() throws Exception {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            bookingRequestRepository.save(BookingRequest.builder()
+                    .adSpace(testAdSpace)
+                    .advertiserName("Advertiser " + i)
+                    .advertiserEmail("advertiser" + i + "@example.com")
+                    .startDate(LocalDate.now().plusDays(1))
+                    .endDate(LocalDate.now().plusDays(8))
+                    .status(BookingStatus.PENDING)
+                    .totalCost(BigDecimal.valueOf(800))
+                    .build());
+        }
 
+        // Act & Assert
+        String firstPage = mockMvc.perform(get("/api/v1/booking-requests/page?limit=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/booking-requests/page?limit=2&cursor=" + cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].advertiserName").value("Advertiser 2"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/booking-requests/page - Should return 400 for a malformed cursor")
+    void getBookingPage_InvalidCursor() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/booking-requests/page?cursor=not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Invalid cursor")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/booking-requests/export - Should stream bookings as NDJSON")
+    void exportBookings_Ndjson() throws Exception {
+        // Arrange
+        for (BookingStatus bookingStatus : List.of(BookingStatus.PENDING, BookingStatus.REJECTED)) {
+            bookingRequestRepository.save(BookingRequest.builder()
+                    .adSpace(testAdSpace)
+                    .advertiserName("John Doe")
+                    .advertiserEmail("john.doe@example.com")
+                    .startDate(LocalDate.now().plusDays(1))
+                    .endDate(LocalDate.now().plusDays(8))
+                    .status(bookingStatus)
+                    .totalCost(BigDecimal.valueOf(800))
+                    .build());
+        }
+
+        // Act
+        String body = mockMvc.perform(get("/api/v1/booking-requests/export?status=PENDING"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        String[] lines = body.trim().split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines[0]).get("status").asText())
+                .isEqualTo("PENDING");
+    }
+
+    private static CreateBookingRequestDto bookingRequest(Long adSpaceId, String advertiserEmail, int endOffset) {
+        return CreateBookingRequestDto.builder()
+                .adSpaceId(adSpaceId)
+                .advertiserName("John Doe")
+                .advertiserEmail(advertiserEmail)
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(endOffset))
+                .build();
+    }
+
+    private BookingRequest pendingBooking(int startOffset, int endOffset) {
+        return BookingRequest.builder()
+                .adSpace(testAdSpace)
+                .advertiserName("John Doe")
+                .advertiserEmail("john.doe@example.com")
+                .startDate(LocalDate.now().plusDays(startOffset))
+                .endDate(LocalDate.now().plusDays(endOffset))
+                .status(BookingStatus.PENDING)
+                .totalCost(BigDecimal.valueOf(800))
+                .build();
+    }
+}
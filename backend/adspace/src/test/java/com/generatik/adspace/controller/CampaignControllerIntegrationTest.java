@@ -0,0 +1,137 @@
+package com.generatik.adspace.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generatik.adspace.dto.campaign.CampaignSearchRequestDto;
+import com.generatik.adspace.entity.*;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+class CampaignControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    private AdSpace cheapest;
+    private AdSpace middle;
+    private AdSpace priciest;
+
+    @BeforeEach
+    void setUp() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+
+        cheapest = adSpaceRepository.save(adSpace("Billboard Queens", AdSpaceType.BILLBOARD, "New York", 50, AdSpaceStatus.AVAILABLE));
+        middle = adSpaceRepository.save(adSpace("Billboard Brooklyn", AdSpaceType.BILLBOARD, "New York", 80, AdSpaceStatus.AVAILABLE));
+        priciest = adSpaceRepository.save(adSpace("Billboard Times Square", AdSpaceType.BILLBOARD, "New York", 100, AdSpaceStatus.BOOKED));
+        adSpaceRepository.save(adSpace("Billboard Bronx", AdSpaceType.BILLBOARD, "New York", 10, AdSpaceStatus.MAINTENANCE));
+        adSpaceRepository.save(adSpace("Bus Stop Broadway", AdSpaceType.BUS_STOP, "New York", 5, AdSpaceStatus.AVAILABLE));
+        adSpaceRepository.save(adSpace("Billboard Sunset", AdSpaceType.BILLBOARD, "Los Angeles", 5, AdSpaceStatus.AVAILABLE));
+
+        bookingRequestRepository.save(BookingRequest.builder()
+                .adSpace(cheapest)
+                .advertiserName("Jane Smith")
+                .advertiserEmail("jane@example.com")
+                .startDate(LocalDate.of(2030, 7, 1))
+                .endDate(LocalDate.of(2030, 7, 10))
+                .status(BookingStatus.APPROVED)
+                .totalCost(BigDecimal.valueOf(500))
+                .build());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/campaigns/search - Should rank the cheapest sets free for a common window")
+    void search_RanksCheapestSets() throws Exception {
+        // The cheapest billboard is booked until 2030-07-10, so the cheapest pair starts on 2030-07-11
+        mockMvc.perform(post("/api/v1/campaigns/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.candidates").value(3))
+                .andExpect(jsonPath("$.windows").value(18))
+                .andExpect(jsonPath("$.complete").value(true))
+                .andExpect(jsonPath("$.options", hasSize(2)))
+                .andExpect(jsonPath("$.options[0].startDate").value("2030-07-11"))
+                .andExpect(jsonPath("$.options[0].endDate").value("2030-07-24"))
+                .andExpect(jsonPath("$.options[0].totalCost").value(1820.0))
+                .andExpect(jsonPath("$.options[0].adSpaces[*].id",
+                        contains(cheapest.getId().intValue(), middle.getId().intValue())))
+                .andExpect(jsonPath("$.options[0].adSpaces[0].cost").value(700.0))
+                .andExpect(jsonPath("$.options[1].startDate").value("2030-07-01"))
+                .andExpect(jsonPath("$.options[1].totalCost").value(2520.0))
+                .andExpect(jsonPath("$.options[1].adSpaces[*].id",
+                        contains(middle.getId().intValue(), priciest.getId().intValue())));
+
+        mockMvc.perform(post("/api/v1/campaigns/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request(new BigDecimal("2000")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.options", hasSize(1)))
+                .andExpect(jsonPath("$.options[0].totalCost").value(1820.0));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/campaigns/search - Should reject a window that does not fit the range with 400")
+    void search_WindowLongerThanRange() throws Exception {
+        CampaignSearchRequestDto request = request(null);
+        request.setLatestEnd(LocalDate.of(2030, 7, 10));
+
+        mockMvc.perform(post("/api/v1/campaigns/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("does not fit")));
+    }
+
+    private static CampaignSearchRequestDto request(BigDecimal maxBudget) {
+        return CampaignSearchRequestDto.builder()
+                .type("BILLBOARD")
+                .city("New York")
+                .adSpaces(2)
+                .windowDays(14)
+                .earliestStart(LocalDate.of(2030, 7, 1))
+                .latestEnd(LocalDate.of(2030, 7, 31))
+                .maxBudget(maxBudget)
+                .build();
+    }
+
+    private static AdSpace adSpace(String name, AdSpaceType type, String city, int pricePerDay, AdSpaceStatus status) {
+        return AdSpace.builder()
+                .name(name)
+                .type(type)
+                .city(city)
+                .address("1 Test Street")
+                .pricePerDay(BigDecimal.valueOf(pricePerDay))
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.generatik.adspace.controller;
+
+import com.generatik.adspace.entity.*;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not transactional: the R2DBC connection only sees committed rows, so data is saved and cleaned up explicitly.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReactiveReadControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    private AdSpace billboard;
+
+    @BeforeEach
+    void setUp() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+
+        billboard = adSpaceRepository.save(adSpace("Billboard Downtown", AdSpaceType.BILLBOARD, AdSpaceStatus.AVAILABLE));
+        adSpaceRepository.save(adSpace("Bus Stop Uptown", AdSpaceType.BUS_STOP, AdSpaceStatus.AVAILABLE));
+        adSpaceRepository.save(adSpace("Closed Billboard", AdSpaceType.BILLBOARD, AdSpaceStatus.MAINTENANCE));
+
+        for (int i = 0; i < 5; i++) {
+            bookingRequestRepository.save(BookingRequest.builder()
+                    .adSpace(billboard)
+                    .advertiserName("Advertiser " + i)
+                    .advertiserEmail("advertiser" + i + "@example.com")
+                    .startDate(LocalDate.now().plusDays(10L * i + 1))
+                    .endDate(LocalDate.now().plusDays(10L * i + 8))
+                    .status(i == 0 ? BookingStatus.APPROVED : BookingStatus.PENDING)
+                    .totalCost(BigDecimal.valueOf(800))
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/reactive/ad-spaces - Should return available ad spaces filtered by type")
+    void getAvailableAdSpaces_FilteredByType() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/reactive/ad-spaces").param("type", "billboard"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(billboard.getId()))
+                .andExpect(jsonPath("$[0].pricePerDay").value(100.0))
+                .andExpect(jsonPath("$[0].status").value("AVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/reactive/ad-spaces/{id} - Should return 404 when ad space does not exist")
+    void getAdSpaceById_NotFound() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/reactive/ad-spaces/{id}", 999999L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Ad space not found with id: 999999"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/reactive/booking-requests - Should stream bookings as NDJSON in id order")
+    void getAllBookings_StreamedAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/reactive/booking-requests")
+                        .param("status", "PENDING")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(10_000);
+
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        List<String> lines = result.getResponse().getContentAsString().lines().toList();
+        assertThat(lines).hasSize(4);
+        assertThat(lines).allSatisfy(line -> assertThat(line)
+                .contains("\"status\":\"PENDING\"")
+                .contains("\"adSpaceName\":\"Billboard Downtown\""));
+        assertThat(lines.get(0)).contains("\"advertiserName\":\"Advertiser 1\"");
+    }
+
+    private static AdSpace adSpace(String name, AdSpaceType type, AdSpaceStatus status) {
+        return AdSpace.builder()
+                .name(name)
+                .type(type)
+                .city("New York")
+                .address("123 Main St")
+                .pricePerDay(BigDecimal.valueOf(100))
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,229 @@
+package com.generatik.adspace.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.dto.booking.CreateBookingRequestDto;
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import com.generatik.adspace.service.AdSpaceService;
+import com.generatik.adspace.service.BookingRequestService;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs against two embedded databases: a primary and a replica that is only brought up to date when the test
+ * calls {@link #replicate()}, so whichever database served a read is visible in its result.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;LOCK_TIMEOUT=10000",
+        "spring.r2dbc.url=r2dbc:h2:mem:///routing-primary",
+        "adspace.datasource.replicas[0].url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "adspace.datasource.replicas[0].username=sa",
+        "adspace.datasource.replicas[0].password=",
+        "adspace.datasource.lag-query=SELECT lag_seconds FROM replication_status",
+        "adspace.datasource.max-lag=PT5S",
+        "adspace.datasource.lag-check-interval=PT1H"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingRequestService bookingRequestService;
+
+    @Autowired
+    private AdSpaceService adSpaceService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoSpyBean
+    private TaskScheduler taskScheduler;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private AdSpace billboard;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ReplicaRoutingDataSource routing = dataSource.unwrap(ReplicaRoutingDataSource.class);
+        primary = new JdbcTemplate(routing.getResolvedDefaultDataSource());
+        replica = new JdbcTemplate(routing.getReplicas().get("replica-1"));
+
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+        billboard = adSpaceRepository.save(AdSpace.builder()
+                .name("Billboard Downtown")
+                .type(AdSpaceType.BILLBOARD)
+                .city("New York")
+                .address("123 Main St")
+                .pricePerDay(BigDecimal.valueOf(100))
+                .status(AdSpaceStatus.AVAILABLE)
+                .build());
+        replicate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions should be served by the replica, writes by the primary")
+    void readOnlyTransactions_UseReplica() {
+        // Act
+        BookingResponseDto booking = bookingRequestService.createBooking(request());
+
+        // Assert: the replica has not seen the write yet
+        assertThat(bookingRequestService.getAllBookings(Optional.empty())).isEmpty();
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM booking_request", Long.class)).isEqualTo(1);
+
+        replicate();
+        assertThat(bookingRequestService.getAllBookings(Optional.empty()))
+                .extracting(BookingResponseDto::getId)
+                .containsExactly(booking.getId());
+    }
+
+    @Test
+    @DisplayName("Reads should fall back to the primary while the replica lags beyond the limit")
+    void laggingReplica_ReadsFromPrimary() {
+        // Arrange
+        BookingResponseDto booking = bookingRequestService.createBooking(request());
+        replica.update("UPDATE replication_status SET lag_seconds = 60");
+
+        // Act
+        replicaLagMonitor.refresh();
+
+        // Assert
+        assertThat(bookingRequestService.getAllBookings(Optional.empty()))
+                .extracting(BookingResponseDto::getId)
+                .containsExactly(booking.getId());
+
+        replica.update("UPDATE replication_status SET lag_seconds = 0");
+        replicaLagMonitor.refresh();
+        assertThat(bookingRequestService.getAllBookings(Optional.empty())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A client should read its own write right after creating a booking")
+    void createBooking_ReadYourWrites() throws Exception {
+        long before = System.currentTimeMillis();
+
+        // Act
+        var result = mockMvc.perform(post("/api/v1/booking-requests")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request())))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE))
+                .andReturn();
+        Cookie primaryUntil = result.getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+        Long id = objectMapper.readValue(result.getResponse().getContentAsString(), BookingResponseDto.class).getId();
+
+        // Assert: the window covers the lag limit plus one lag check interval from the commit
+        assertThat(Long.parseLong(primaryUntil.getValue()))
+                .isGreaterThanOrEqualTo(before + Duration.ofSeconds(5).plusHours(1).toMillis());
+
+        // Assert: the writer is pinned to the primary, other clients read the (stale) replica
+        mockMvc.perform(get("/api/v1/booking-requests/{id}", id).cookie(primaryUntil))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/booking-requests/{id}", id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Ad space caches filled from a lagging replica should be evicted again once replicas catch up")
+    void adSpaceChange_EvictedAgainAfterReplicaLag() {
+        // Arrange: the change reaches the primary only; once the entity drops out of the second-level cache,
+        // a replica read caches the old name
+        billboard.setName("Billboard Midtown");
+        adSpaceRepository.save(billboard);
+        entityManagerFactory.getCache().evict(AdSpace.class);
+        assertThat(adSpaceService.getAdSpaceById(billboard.getId()).getName()).isEqualTo("Billboard Downtown");
+        replicate();
+        assertThat(adSpaceService.getAdSpaceById(billboard.getId()).getName()).isEqualTo("Billboard Downtown");
+
+        // Act: run the eviction scheduled for after the lag window
+        ArgumentCaptor<Runnable> eviction = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, atLeastOnce()).schedule(eviction.capture(), any(Instant.class));
+        eviction.getValue().run();
+
+        // Assert
+        assertThat(adSpaceService.getAdSpaceById(billboard.getId()).getName()).isEqualTo("Billboard Midtown");
+    }
+
+    /**
+     * Copy the primary's schema and data onto the replica, standing in for streaming replication.
+     */
+    private void replicate() {
+        List<String> script = primary.queryForList("SCRIPT", String.class);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+        replica.execute("CREATE TABLE replication_status (lag_seconds DOUBLE PRECISION NOT NULL)");
+        replica.update("INSERT INTO replication_status VALUES (0)");
+        replicaLagMonitor.refresh();
+    }
+
+    private CreateBookingRequestDto request() {
+        return CreateBookingRequestDto.builder()
+                .adSpaceId(billboard.getId())
+                .advertiserName("John Doe")
+                .advertiserEmail("john.doe@example.com")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(8))
+                .build();
+    }
+}
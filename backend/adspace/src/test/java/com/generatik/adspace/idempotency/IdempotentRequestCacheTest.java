@@ -0,0 +1,175 @@
+package com.generatik.adspace.idempotency;
+
+import com.generatik.adspace.exception.BusinessValidationException;
+import com.generatik.adspace.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotentRequestCacheTest {
+
+    private IdempotentRequestCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new IdempotentRequestCache(100, Duration.ofMinutes(5), Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("Should run the action once and replay its result for the same key")
+    void execute_ReplaysResult() {
+        AtomicInteger executions = new AtomicInteger();
+
+        var first = cache.execute("key", "request", executions::incrementAndGet);
+        var second = cache.execute("key", "request", executions::incrementAndGet);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.value()).isEqualTo(first.value());
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent duplicates onto a single execution")
+    void execute_CoalescesConcurrentDuplicates() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<IdempotentRequestCache.Outcome<Integer>> leader = executor.submit(() ->
+                    cache.execute("key", "request", () -> {
+                        running.countDown();
+                        await(release);
+                        return executions.incrementAndGet();
+                    }));
+            running.await(5, TimeUnit.SECONDS);
+
+            List<Future<IdempotentRequestCache.Outcome<Integer>>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> cache.execute("key", "request", executions::incrementAndGet)));
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS).value()).isEqualTo(1);
+            for (Future<IdempotentRequestCache.Outcome<Integer>> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS).value()).isEqualTo(1);
+            }
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not remember failed executions")
+    void execute_FailureNotCached() {
+        assertThatThrownBy(() -> cache.execute("key", "request", () -> {
+            throw new BusinessValidationException("boom");
+        })).isInstanceOf(BusinessValidationException.class);
+
+        var retry = cache.execute("key", "request", () -> 42);
+
+        assertThat(retry.replayed()).isFalse();
+        assertThat(retry.value()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Should fail waiting duplicates and forget the key when the action throws an error")
+    void execute_ErrorReleasesDuplicates() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<IdempotentRequestCache.Outcome<Integer>> leader = executor.submit(() ->
+                    cache.execute("key", "request", () -> {
+                        running.countDown();
+                        await(release);
+                        throw new StackOverflowError("boom");
+                    }));
+            running.await(5, TimeUnit.SECONDS);
+            FutureTask<IdempotentRequestCache.Outcome<Integer>> follower =
+                    new FutureTask<>(() -> cache.execute("key", "request", () -> 1));
+            Thread followerThread = new Thread(follower);
+            followerThread.start();
+            // Only fail the leader once the duplicate is waiting on it
+            long deadline = System.currentTimeMillis() + 5000;
+            while (followerThread.getState() != Thread.State.TIMED_WAITING && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(StackOverflowError.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(StackOverflowError.class);
+            assertThat(cache.execute("key", "request", () -> 42).replayed()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should give up waiting on a duplicate after the wait timeout with a conflict")
+    void execute_WaitTimeoutConflicts() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<IdempotentRequestCache.Outcome<Integer>> leader = executor.submit(() ->
+                    cache.execute("key", "request", () -> {
+                        running.countDown();
+                        await(release);
+                        return 1;
+                    }));
+            running.await(5, TimeUnit.SECONDS);
+
+            assertThatThrownBy(() -> cache.execute("key", "request", () -> 2))
+                    .isInstanceOf(ConflictException.class);
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS).value()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request, or an invalid key")
+    void execute_RejectsMismatchAndInvalidKeys() {
+        cache.execute("key", "request", () -> 1);
+
+        assertThatThrownBy(() -> cache.execute("key", "other request", () -> 2))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("different request");
+        assertThatThrownBy(() -> cache.execute(" ", "request", () -> 3))
+                .isInstanceOf(BusinessValidationException.class);
+        assertThatThrownBy(() -> cache.execute("k".repeat(256), "request", () -> 4))
+                .isInstanceOf(BusinessValidationException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
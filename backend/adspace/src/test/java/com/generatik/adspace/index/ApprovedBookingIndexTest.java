@@ -0,0 +1,151 @@
+package com.generatik.adspace.index;
+
+import com.generatik.adspace.dto.booking.BookingIntervalDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApprovedBookingIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+
+    private ApprovedBookingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ApprovedBookingIndex();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should detect overlaps with inclusive boundaries")
+    void hasOverlap_InclusiveBoundaries() {
+        index.rebuild(() -> List.of(interval(1L, 1L, 10, 20)));
+
+        assertThat(index.hasOverlap(1L, day(0), day(9))).isFalse();
+        assertThat(index.hasOverlap(1L, day(0), day(10))).isTrue();
+        assertThat(index.hasOverlap(1L, day(20), day(30))).isTrue();
+        assertThat(index.hasOverlap(1L, day(21), day(30))).isFalse();
+        assertThat(index.hasOverlap(1L, day(12), day(14))).isTrue();
+        assertThat(index.hasOverlap(2L, day(10), day(20))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should find a long interval that starts before shorter later ones")
+    void hasOverlap_LongIntervalShadowedByLaterStarts() {
+        index.rebuild(() -> List.of(
+                interval(1L, 1L, 0, 100),
+                interval(2L, 1L, 10, 12),
+                interval(3L, 1L, 20, 22)));
+
+        assertThat(index.hasOverlap(1L, day(50), day(60))).isTrue();
+        assertThat(index.hasOverlap(1L, day(101), day(110))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should add and remove bookings outside a transaction")
+    void addAndRemove() {
+        index.add(1L, 1L, day(10), day(20));
+        assertThat(index.hasOverlap(1L, day(15), day(16))).isTrue();
+
+        index.remove(1L, 1L);
+        assertThat(index.hasOverlap(1L, day(15), day(16))).isFalse();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should undo an addition when its transaction rolls back")
+    void add_RolledBackTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.add(1L, 1L, day(10), day(20));
+        assertThat(index.hasOverlap(1L, day(15), day(16))).isTrue();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(index.hasOverlap(1L, day(15), day(16))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should add missing and drop stale entries when reconciling with the database")
+    void reconcile_CorrectsDrift() {
+        index.rebuild(() -> List.of(interval(1L, 1L, 10, 20), interval(2L, 2L, 10, 20)));
+
+        int corrections = index.reconcile(() -> List.of(interval(1L, 1L, 10, 20), interval(3L, 3L, 30, 40)));
+
+        assertThat(corrections).isEqualTo(2);
+        assertThat(index.hasOverlap(2L, day(10), day(20))).isFalse();
+        assertThat(index.hasOverlap(3L, day(35), day(36))).isTrue();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep in-flight approvals that the database snapshot cannot see yet")
+    void reconcile_KeepsInFlightApprovals() {
+        index.rebuild(() -> List.of());
+        TransactionSynchronizationManager.initSynchronization();
+        index.add(1L, 1L, day(10), day(20));
+
+        int corrections = index.reconcile(() -> List.of());
+
+        assertThat(corrections).isZero();
+        assertThat(index.hasOverlap(1L, day(10), day(20))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep approvals that commit while the database snapshot is read")
+    void reconcile_KeepsApprovalsCommittedDuringSnapshot() {
+        index.rebuild(() -> List.of(interval(1L, 1L, 10, 20)));
+        // Approved before the snapshot starts, committed after it was read
+        TransactionSynchronizationManager.initSynchronization();
+        index.add(2L, 2L, day(10), day(20));
+
+        int corrections = index.reconcile(() -> {
+            commit();
+            TransactionSynchronizationManager.initSynchronization();
+            index.add(3L, 3L, day(10), day(20));
+            commit();
+            return List.of(interval(1L, 1L, 10, 20));
+        });
+
+        assertThat(corrections).isZero();
+        assertThat(index.hasOverlap(2L, day(10), day(20))).isTrue();
+        assertThat(index.hasOverlap(3L, day(10), day(20))).isTrue();
+
+        index.rebuild(() -> {
+            index.add(4L, 4L, day(10), day(20));
+            return List.of(interval(1L, 1L, 10, 20), interval(2L, 2L, 10, 20), interval(3L, 3L, 10, 20));
+        });
+
+        assertThat(index.hasOverlap(4L, day(10), day(20))).isTrue();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static BookingIntervalDto interval(Long bookingId, Long adSpaceId, int startOffset, int endOffset) {
+        return new BookingIntervalDto(bookingId, adSpaceId, day(startOffset), day(endOffset));
+    }
+
+    private static LocalDate day(int offset) {
+        return BASE.plusDays(offset);
+    }
+}
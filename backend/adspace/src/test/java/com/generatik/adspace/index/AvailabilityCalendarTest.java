@@ -0,0 +1,108 @@
+package com.generatik.adspace.index;
+
+import com.generatik.adspace.dto.booking.BookingIntervalDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityCalendarTest {
+
+    private static final LocalDate BASE = LocalDate.of(2030, 1, 1);
+
+    private AvailabilityCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        calendar = new AvailabilityCalendar(100);
+    }
+
+    @Test
+    @DisplayName("Should only cover ranges inside the horizon once built")
+    void covers_Horizon() {
+        assertThat(calendar.covers(BASE, BASE)).isFalse();
+
+        calendar.rebuild(BASE, List::of);
+
+        assertThat(calendar.covers(BASE, day(99))).isTrue();
+        assertThat(calendar.covers(BASE.minusDays(1), day(10))).isFalse();
+        assertThat(calendar.covers(BASE, day(100))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report booked days relative to the requested start, clipped to the horizon")
+    void occupiedDays_RelativeToRange() {
+        calendar.rebuild(BASE, () -> List.of(
+                interval(1L, 1L, -10, 2),
+                interval(2L, 1L, 20, 26),
+                interval(3L, 1L, 95, 120)));
+
+        assertThat(calendar.occupiedDays(1L, BASE, day(9))).isEqualTo(bits(0, 1, 2));
+        assertThat(calendar.occupiedDays(1L, day(18), day(21))).isEqualTo(bits(2, 3));
+        assertThat(calendar.occupiedDays(1L, day(90), day(99))).isEqualTo(bits(5, 6, 7, 8, 9));
+        assertThat(calendar.occupiedDays(2L, BASE, day(99))).isEqualTo(new BitSet());
+    }
+
+    @Test
+    @DisplayName("Should keep approvals that arrive while a rebuild reads its snapshot")
+    void rebuild_KeepsConcurrentApprovals() {
+        calendar.rebuild(BASE, () -> {
+            // Committed after the snapshot was read, so missing from it
+            calendar.occupy(2L, 1L, day(30), day(36));
+            return List.of(interval(1L, 1L, 10, 16));
+        });
+
+        assertThat(calendar.occupiedDays(1L, day(10), day(10))).isEqualTo(bits(0));
+        assertThat(calendar.occupiedDays(1L, day(36), day(37))).isEqualTo(bits(0));
+
+        calendar.occupy(3L, 1L, day(50), day(56));
+        assertThat(calendar.occupiedDays(1L, day(49), day(50))).isEqualTo(bits(1));
+    }
+
+    @Test
+    @DisplayName("Should compute the same bits straight from intervals for any range")
+    void occupiedDays_FromIntervals() {
+        BitSet booked = AvailabilityCalendar.occupiedDays(
+                List.of(interval(1L, 1L, -3, 1), interval(2L, 1L, 5, 5)), BASE, day(6));
+
+        assertThat(booked).isEqualTo(bits(0, 1, 5));
+    }
+
+    @Test
+    @DisplayName("Should pick up approvals made elsewhere when reconciling over the same horizon")
+    void reconcile_PicksUpMissingApprovals() {
+        calendar.rebuild(BASE, () -> List.of(interval(1L, 1L, 10, 16)));
+        // Approved on another instance, so never applied here
+        List<BookingIntervalDto> approved = List.of(interval(1L, 1L, 10, 16), interval(2L, 2L, 30, 31));
+
+        int corrections = calendar.reconcile(origin -> {
+            assertThat(origin).isEqualTo(BASE);
+            return approved;
+        });
+
+        assertThat(corrections).isEqualTo(1);
+        assertThat(calendar.occupiedDays(2L, day(30), day(31))).isEqualTo(bits(0, 1));
+        assertThat(calendar.reconcile(origin -> approved)).isZero();
+    }
+
+    private static BookingIntervalDto interval(Long bookingId, Long adSpaceId, int startOffset, int endOffset) {
+        return new BookingIntervalDto(bookingId, adSpaceId, day(startOffset), day(endOffset));
+    }
+
+    private static LocalDate day(int offset) {
+        return BASE.plusDays(offset);
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
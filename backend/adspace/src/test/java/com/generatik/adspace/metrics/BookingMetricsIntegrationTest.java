@@ -0,0 +1,131 @@
+package com.generatik.adspace.metrics;
+
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingRequest;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class BookingMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BookingMetrics bookingMetrics;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    private AdSpace adSpace;
+
+    @BeforeEach
+    void setUp() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+        adSpace = adSpaceRepository.save(AdSpace.builder()
+                .name("Billboard Downtown")
+                .type(AdSpaceType.BILLBOARD)
+                .city("New York")
+                .address("123 Main St")
+                .pricePerDay(BigDecimal.valueOf(100))
+                .status(AdSpaceStatus.AVAILABLE)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Rejected bookings should be counted by reason")
+    void rejection_CountedByReason() throws Exception {
+        double before = rejections("invalid_dates");
+
+        mockMvc.perform(post("/api/v1/booking-requests")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"adSpaceId": %d, "advertiserName": "John Doe", "advertiserEmail": "john.doe@example.com",
+                                 "startDate": "%s", "endDate": "%s"}
+                                """.formatted(adSpace.getId(), LocalDate.now().plusDays(1), LocalDate.now().plusDays(3))))
+                .andExpect(status().isBadRequest());
+
+        assertThat(rejections("invalid_dates")).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("Pending gauges should reflect the queue after a refresh")
+    void pendingGauges_ReflectQueue() {
+        for (int i = 0; i < 3; i++) {
+            bookingRequestRepository.save(BookingRequest.builder()
+                    .adSpace(adSpace)
+                    .advertiserName("John Doe")
+                    .advertiserEmail("john.doe@example.com")
+                    .startDate(LocalDate.now().plusDays(10 * i + 1))
+                    .endDate(LocalDate.now().plusDays(10 * i + 8))
+                    .status(BookingStatus.PENDING)
+                    .totalCost(BigDecimal.valueOf(800))
+                    .build());
+        }
+
+        bookingMetrics.refreshPending();
+
+        assertThat(meterRegistry.get("adspace.booking.pending").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("adspace.booking.pending.oldest.age").gauge().value()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Prometheus endpoint should expose service, repository and booking meters with histograms")
+    void prometheusEndpoint_ExposesMeters() throws Exception {
+        mockMvc.perform(get("/api/v1/ad-spaces")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/booking-requests")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("adspace_service_seconds_bucket")))
+                .andExpect(content().string(containsString("class=\"com.generatik.adspace.service.impl.BookingRequestServiceImpl\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("adspace_rejections_total")))
+                .andExpect(content().string(containsString("adspace_booking_pending")));
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry.get("adspace.rejections").tag("reason", reason).counter().count();
+    }
+}
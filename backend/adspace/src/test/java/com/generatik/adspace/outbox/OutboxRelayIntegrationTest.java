@@ -0,0 +1,180 @@
+package com.generatik.adspace.outbox;
+
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.dto.booking.CreateBookingRequestDto;
+import com.generatik.adspace.dto.event.BookingEventDto;
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingEventType;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import com.generatik.adspace.repository.OutboxEventRepository;
+import com.generatik.adspace.service.BookingRequestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingRequestService bookingRequestService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxEventSink sink;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private AdSpace billboard;
+
+    @BeforeEach
+    void setUp() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+        outboxRelay.relay();
+        outboxEventRepository.deleteAll();
+        billboard = adSpaceRepository.save(AdSpace.builder()
+                .name("Billboard Downtown")
+                .type(AdSpaceType.BILLBOARD)
+                .city("New York")
+                .address("123 Main St")
+                .pricePerDay(BigDecimal.valueOf(100))
+                .status(AdSpaceStatus.AVAILABLE)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Approving a booking should relay created, approved and auto-rejected events in order")
+    void relay_PublishesLifecycleEvents() throws Exception {
+        // Arrange
+        BookingResponseDto first = bookingRequestService.createBooking(request(1));
+        BookingResponseDto second = bookingRequestService.createBooking(request(3));
+        bookingRequestService.approveBooking(first.getId());
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        List<BookingEventDto> relayed = sink.getEventsAfter(0).stream()
+                .filter(event -> Set.of(first.getId(), second.getId()).contains(event.getBookingId()))
+                .toList();
+        assertThat(relayed)
+                .extracting(BookingEventDto::getType, BookingEventDto::getBookingId)
+                .containsExactly(
+                        tuple(BookingEventType.BOOKING_CREATED, first.getId()),
+                        tuple(BookingEventType.BOOKING_CREATED, second.getId()),
+                        tuple(BookingEventType.BOOKING_APPROVED, first.getId()),
+                        tuple(BookingEventType.BOOKING_REJECTED, second.getId()));
+        assertThat(relayed).extracting(BookingEventDto::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(relayed.get(3).getBooking()).contains("\"status\":\"REJECTED\"");
+        assertThat(outboxEventRepository.findLastOffset()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/booking-events - Should page through published events by offset")
+    void getEvents_TailsByOffset() throws Exception {
+        // Arrange
+        BookingResponseDto booking = bookingRequestService.createBooking(request(1));
+        bookingRequestService.rejectBooking(booking.getId());
+        bookingRequestService.createBooking(request(20));
+        outboxRelay.relay();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/booking-events").param("after", "0").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].offset").value(1))
+                .andExpect(jsonPath("$.items[0].type").value("BOOKING_CREATED"))
+                .andExpect(jsonPath("$.items[0].booking.id").value(booking.getId()))
+                .andExpect(jsonPath("$.items[1].type").value("BOOKING_REJECTED"))
+                .andExpect(jsonPath("$.items[1].booking.status").value("REJECTED"))
+                .andExpect(jsonPath("$.nextOffset").value(2));
+
+        mockMvc.perform(get("/api/v1/booking-events").param("after", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].offset").value(3))
+                .andExpect(jsonPath("$.nextOffset").value(3));
+    }
+
+    @Test
+    @DisplayName("Offsets should keep growing after every published event has been purged")
+    void purge_KeepsOffsetsGrowing() {
+        // Arrange
+        BookingResponseDto booking = bookingRequestService.createBooking(request(1));
+        bookingRequestService.rejectBooking(booking.getId());
+        outboxRelay.relay();
+        long lastOffset = outboxEventRepository.findLastOffset();
+        outboxEventRepository.saveAll(outboxEventRepository.findAll().stream()
+                .peek(event -> event.setPublishedAt(LocalDateTime.now().minusDays(30)))
+                .toList());
+
+        // Act
+        outboxRelay.purge();
+        bookingRequestService.createBooking(request(20));
+        outboxRelay.relay();
+
+        // Assert
+        assertThat(outboxEventRepository.count()).isEqualTo(2);
+        assertThat(outboxEventRepository.findLastOffset()).isEqualTo(lastOffset + 1);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/booking-events - Should return 400 when the limit is out of range")
+    void getEvents_InvalidLimit() throws Exception {
+        mockMvc.perform(get("/api/v1/booking-events").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("limit")));
+    }
+
+    private CreateBookingRequestDto request(int startOffset) {
+        return CreateBookingRequestDto.builder()
+                .adSpaceId(billboard.getId())
+                .advertiserName("John Doe")
+                .advertiserEmail("john.doe@example.com")
+                .startDate(LocalDate.now().plusDays(startOffset))
+                .endDate(LocalDate.now().plusDays(startOffset + 7))
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.generatik.adspace.repository;
+
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingRequest;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.service.impl.AdSpaceOccupancyUpdater;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each repository call runs in its own transaction and persistence context here, so any read that
+ * avoids SQL is served by the Hibernate second-level or query cache.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AdSpaceSecondLevelCacheTest {
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    @Autowired
+    private AdSpaceOccupancyUpdater adSpaceOccupancyUpdater;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private AdSpace billboard;
+
+    @BeforeEach
+    void setUp() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+        billboard = adSpaceRepository.save(AdSpace.builder()
+                .name("Billboard Downtown")
+                .type(AdSpaceType.BILLBOARD)
+                .city("New York")
+                .address("123 Main St")
+                .pricePerDay(BigDecimal.valueOf(100))
+                .status(AdSpaceStatus.AVAILABLE)
+                .build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Repeated findById should be served from the second-level cache without SQL")
+    void findById_SecondLevelCacheHit() {
+        adSpaceRepository.findById(billboard.getId());
+        statistics.clear();
+
+        AdSpace adSpace = adSpaceRepository.findById(billboard.getId()).orElseThrow();
+        adSpaceRepository.findById(billboard.getId());
+
+        assertThat(adSpace.getName()).isEqualTo("Billboard Downtown");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Repeated finder queries should be served from the query cache without SQL")
+    void findByStatusAndTypeAndCity_QueryCacheHit() {
+        adSpaceRepository.findByStatusAndTypeAndCity(AdSpaceStatus.AVAILABLE, AdSpaceType.BILLBOARD, "New York");
+        statistics.clear();
+
+        var result = adSpaceRepository.findByStatusAndTypeAndCity(
+                AdSpaceStatus.AVAILABLE, AdSpaceType.BILLBOARD, "New York");
+
+        assertThat(result).extracting(AdSpace::getId).containsExactly(billboard.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("hibernate.cache.query.requests").tag("result", "hit")
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Entity updates and bulk updates should invalidate cached entities and query results")
+    void updates_InvalidateCaches() {
+        // Arrange
+        adSpaceRepository.findByStatus(AdSpaceStatus.AVAILABLE);
+        adSpaceRepository.findById(billboard.getId());
+
+        // Act: entity update
+        billboard.setStatus(AdSpaceStatus.MAINTENANCE);
+        adSpaceRepository.save(billboard);
+
+        // Assert
+        assertThat(adSpaceRepository.findByStatus(AdSpaceStatus.AVAILABLE)).isEmpty();
+        assertThat(adSpaceRepository.findById(billboard.getId()).orElseThrow().getStatus())
+                .isEqualTo(AdSpaceStatus.MAINTENANCE);
+
+        // Arrange: an approved booking running today, and the space back to AVAILABLE
+        AdSpace adSpace = adSpaceRepository.findById(billboard.getId()).orElseThrow();
+        adSpace.setStatus(AdSpaceStatus.AVAILABLE);
+        adSpaceRepository.save(adSpace);
+        bookingRequestRepository.save(BookingRequest.builder()
+                .adSpace(adSpace)
+                .advertiserName("John Doe")
+                .advertiserEmail("john.doe@example.com")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(7))
+                .status(BookingStatus.APPROVED)
+                .totalCost(BigDecimal.valueOf(800))
+                .build());
+        assertThat(adSpaceRepository.findByStatus(AdSpaceStatus.AVAILABLE)).hasSize(1);
+
+        // Act: bulk update bypassing the entities
+        adSpaceOccupancyUpdater.refresh(LocalDate.now());
+
+        // Assert
+        assertThat(adSpaceRepository.findByStatus(AdSpaceStatus.AVAILABLE)).isEmpty();
+        assertThat(adSpaceRepository.findById(billboard.getId()).orElseThrow().getStatus())
+                .isEqualTo(AdSpaceStatus.BOOKED);
+    }
+}
@@ -0,0 +1,88 @@
+package com.generatik.adspace.repository;
+
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingRequest;
+import com.generatik.adspace.entity.BookingStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingOverlapQueryTest {
+
+    private static final LocalDate START = LocalDate.of(2030, 6, 10);
+    private static final LocalDate END = LocalDate.of(2030, 6, 16);
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    private AdSpace billboard;
+
+    @BeforeEach
+    void setUp() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+        billboard = adSpaceRepository.save(AdSpace.builder()
+                .name("Billboard Downtown")
+                .type(AdSpaceType.BILLBOARD)
+                .city("New York")
+                .address("123 Main St")
+                .pricePerDay(BigDecimal.valueOf(100))
+                .status(AdSpaceStatus.AVAILABLE)
+                .build());
+        bookingRequestRepository.save(BookingRequest.builder()
+                .adSpace(billboard)
+                .advertiserName("Acme")
+                .advertiserEmail("acme@example.com")
+                .startDate(START)
+                .endDate(END)
+                .status(BookingStatus.APPROVED)
+                .totalCost(BigDecimal.valueOf(700))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Ranges sharing a single day overlap, at either end")
+    void existsOverlapping_InclusiveBounds() {
+        assertThat(existsApproved(START.minusDays(7), START)).isTrue();
+        assertThat(existsApproved(END, END.plusDays(7))).isTrue();
+        assertThat(existsApproved(START.plusDays(2), START.plusDays(3))).isTrue();
+        assertThat(existsApproved(START.minusDays(7), END.plusDays(7))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Adjacent ranges, other statuses and other ad spaces do not overlap")
+    void existsOverlapping_NoOverlap() {
+        assertThat(existsApproved(START.minusDays(7), START.minusDays(1))).isFalse();
+        assertThat(existsApproved(END.plusDays(1), END.plusDays(7))).isFalse();
+        assertThat(bookingRequestRepository.existsOverlapping(billboard.getId(), BookingStatus.PENDING, START, END))
+                .isFalse();
+        assertThat(bookingRequestRepository.existsOverlapping(billboard.getId() + 1, BookingStatus.APPROVED, START, END))
+                .isFalse();
+    }
+
+    private boolean existsApproved(LocalDate startDate, LocalDate endDate) {
+        return bookingRequestRepository.existsOverlapping(billboard.getId(), BookingStatus.APPROVED, startDate, endDate);
+    }
+}
@@ -0,0 +1,99 @@
+package com.generatik.adspace.search;
+
+import com.generatik.adspace.dto.adspace.AdSpaceSearchDocumentDto;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.search.AdSpaceSearchIndex.Circle;
+import com.generatik.adspace.search.AdSpaceSearchIndex.Hit;
+import com.generatik.adspace.search.AdSpaceSearchIndex.Hits;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdSpaceSearchIndexTest {
+
+    private AdSpaceSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AdSpaceSearchIndex();
+        index.rebuild(() -> List.of(
+                document(1L, "Harbour Billboard", AdSpaceType.BILLBOARD, "Zürich", "1 Seestrasse", 47.3650, 8.5410),
+                document(2L, "Station Shelter", AdSpaceType.BUS_STOP, "Zürich", "Harbour Road 5", 47.3779, 8.5403),
+                document(3L, "Old Town Bus Stop", AdSpaceType.BUS_STOP, "Geneva", "2 Rue du Rhône", null, null)));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("Should rank name matches above address matches and fold accents")
+    void search_RanksNameAboveAddress() {
+        assertThat(ids(index.search("harbor", null, null, 0, 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.search("zurich", null, null, 0, 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.search("harbour", AdSpaceType.BUS_STOP, null, 0, 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should filter by radius, nearest first, and skip ad spaces without coordinates")
+    void search_WithinRadius() {
+        // 1.5 km north of the harbour billboard, 0.1 km from the station shelter
+        Hits hits = index.search(null, null, new Circle(47.3785, 8.5410, 2_000), 0, 10);
+
+        assertThat(ids(hits)).containsExactly(2L, 1L);
+        assertThat(hits.hits().get(0).distanceMeters()).isLessThan(100);
+        assertThat(hits.hits().get(0).score()).isNull();
+        assertThat(ids(index.search(null, null, new Circle(47.3785, 8.5410, 500), 0, 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should apply updates and removals incrementally")
+    void update_Incremental() {
+        index.update(document(3L, "Lakeside Bus Stop", AdSpaceType.BUS_STOP, "Geneva", "2 Rue du Rhône", null, null));
+        index.remove(2L);
+
+        assertThat(ids(index.search("lakeside", null, null, 0, 10))).containsExactly(3L);
+        assertThat(ids(index.search("old town", null, null, 0, 10))).isEmpty();
+        assertThat(ids(index.search("zurich", null, null, 0, 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should count every match while returning one page")
+    void search_Pages() {
+        Hits firstPage = index.search(null, null, null, 0, 2);
+        Hits secondPage = index.search(null, null, null, 2, 2);
+
+        assertThat(firstPage.total()).isEqualTo(3);
+        assertThat(ids(firstPage)).containsExactly(1L, 2L);
+        assertThat(ids(secondPage)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should report itself uninitialized until the first build")
+    void isInitialized_AfterFirstBuild() throws IOException {
+        AdSpaceSearchIndex fresh = new AdSpaceSearchIndex();
+        try {
+            assertThat(fresh.isInitialized()).isFalse();
+            fresh.rebuild(List::of);
+            assertThat(fresh.isInitialized()).isTrue();
+        } finally {
+            fresh.close();
+        }
+    }
+
+    private static List<Long> ids(Hits hits) {
+        return hits.hits().stream().map(Hit::id).toList();
+    }
+
+    private static AdSpaceSearchDocumentDto document(Long id, String name, AdSpaceType type, String city,
+                                                     String address, Double latitude, Double longitude) {
+        return new AdSpaceSearchDocumentDto(id, name, type, city, address, latitude, longitude);
+    }
+}
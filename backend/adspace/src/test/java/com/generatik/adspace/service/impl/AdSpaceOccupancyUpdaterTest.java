@@ -0,0 +1,103 @@
+package com.generatik.adspace.service.impl;
+
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingRequest;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class AdSpaceOccupancyUpdaterTest {
+
+    private static final LocalDate BASE = LocalDate.now().plusDays(30);
+
+    @Autowired
+    private AdSpaceOccupancyUpdater adSpaceOccupancyUpdater;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    private AdSpace booked;
+    private AdSpace available;
+    private AdSpace maintenance;
+
+    @BeforeEach
+    void setUp() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+
+        booked = adSpaceRepository.save(adSpace("Billboard A", AdSpaceStatus.BOOKED));
+        available = adSpaceRepository.save(adSpace("Billboard B", AdSpaceStatus.AVAILABLE));
+        maintenance = adSpaceRepository.save(adSpace("Billboard C", AdSpaceStatus.MAINTENANCE));
+
+        bookingRequestRepository.save(booking(booked, BASE, BASE.plusDays(6), BookingStatus.APPROVED));
+        bookingRequestRepository.save(booking(available, BASE.plusDays(7), BASE.plusDays(13), BookingStatus.APPROVED));
+        bookingRequestRepository.save(booking(available, BASE, BASE.plusDays(6), BookingStatus.PENDING));
+        bookingRequestRepository.save(booking(maintenance, BASE, BASE.plusDays(13), BookingStatus.APPROVED));
+    }
+
+    @Test
+    @DisplayName("Should move statuses as approved bookings start and end, leaving maintenance alone")
+    void refresh_FollowsBookingDates() {
+        // While the first booking runs, only its ad space is occupied
+        adSpaceOccupancyUpdater.refresh(BASE.plusDays(3));
+        assertStatuses(AdSpaceStatus.BOOKED, AdSpaceStatus.AVAILABLE);
+
+        // The first booking has ended and the second has started
+        adSpaceOccupancyUpdater.refresh(BASE.plusDays(7));
+        assertStatuses(AdSpaceStatus.AVAILABLE, AdSpaceStatus.BOOKED);
+
+        // Both bookings are over
+        adSpaceOccupancyUpdater.refresh(BASE.plusDays(14));
+        assertStatuses(AdSpaceStatus.AVAILABLE, AdSpaceStatus.AVAILABLE);
+    }
+
+    private void assertStatuses(AdSpaceStatus first, AdSpaceStatus second) {
+        assertThat(adSpaceRepository.findById(booked.getId()).orElseThrow().getStatus()).isEqualTo(first);
+        assertThat(adSpaceRepository.findById(available.getId()).orElseThrow().getStatus()).isEqualTo(second);
+        assertThat(adSpaceRepository.findById(maintenance.getId()).orElseThrow().getStatus())
+                .isEqualTo(AdSpaceStatus.MAINTENANCE);
+    }
+
+    private static AdSpace adSpace(String name, AdSpaceStatus status) {
+        return AdSpace.builder()
+                .name(name)
+                .type(AdSpaceType.BILLBOARD)
+                .city("New York")
+                .address("123 Main St")
+                .pricePerDay(BigDecimal.valueOf(100))
+                .status(status)
+                .build();
+    }
+
+    private static BookingRequest booking(AdSpace adSpace, LocalDate start, LocalDate end, BookingStatus status) {
+        return BookingRequest.builder()
+                .adSpace(adSpace)
+                .advertiserName("John Doe")
+                .advertiserEmail("john.doe@example.com")
+                .startDate(start)
+                .endDate(end)
+                .status(status)
+                .totalCost(BigDecimal.valueOf(700))
+                .build();
+    }
+}
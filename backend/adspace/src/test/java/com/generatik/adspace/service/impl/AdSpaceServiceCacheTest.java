@@ -0,0 +1,132 @@
+package com.generatik.adspace.service.impl;
+
+import com.generatik.adspace.dto.adspace.AdSpaceResponseDto;
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingRequest;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import com.generatik.adspace.service.AdSpaceService;
+import com.generatik.adspace.service.BookingRequestService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AdSpaceServiceCacheTest {
+
+    @Autowired
+    private AdSpaceService adSpaceService;
+
+    @Autowired
+    private BookingRequestService bookingRequestService;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private AdSpace billboard;
+    private AdSpace busStop;
+
+    @BeforeEach
+    void setUp() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+        billboard = adSpaceRepository.save(adSpace("Billboard Downtown", AdSpaceType.BILLBOARD, "New York"));
+        busStop = adSpaceRepository.save(adSpace("Bus Stop Uptown", AdSpaceType.BUS_STOP, "Boston"));
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Repeated catalog reads should be served from the cache, with case-insensitive type keys")
+    void getAvailableAdSpaces_CachedAfterFirstRead() {
+        adSpaceService.getAvailableAdSpaces("BILLBOARD", null);
+        statistics.clear();
+
+        var result = adSpaceService.getAvailableAdSpaces("billboard", null);
+        adSpaceService.getAvailableAdSpaces("BILLBOARD", null);
+
+        assertThat(result).extracting(AdSpaceResponseDto::getId).containsExactly(billboard.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "adSpaceCatalog").tag("result", "hit")
+                .functionCounter().count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Approving a booking should evict only the catalog entries that include the ad space")
+    void approveBooking_EvictsAffectedEntries() {
+        // Arrange
+        BookingRequest booking = bookingRequestRepository.save(BookingRequest.builder()
+                .adSpace(billboard)
+                .advertiserName("John Doe")
+                .advertiserEmail("john.doe@example.com")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(7))
+                .status(BookingStatus.PENDING)
+                .totalCost(BigDecimal.valueOf(800))
+                .build());
+        adSpaceService.getAvailableAdSpaces(null, null);
+        adSpaceService.getAvailableAdSpaces(null, "Boston");
+        adSpaceService.getAdSpaceById(billboard.getId());
+
+        // Act
+        bookingRequestService.approveBooking(booking.getId());
+
+        // Assert
+        var catalog = cacheManager.getCache("adSpaceCatalog");
+        assertThat(catalog.get(AdSpaceCatalogKey.of(null, null))).isNull();
+        assertThat(catalog.get(AdSpaceCatalogKey.of(null, "Boston"))).isNotNull();
+        assertThat(cacheManager.getCache("adSpaces").get(billboard.getId())).isNull();
+        assertThat(adSpaceService.getAdSpaceById(billboard.getId()).getStatus()).isEqualTo(AdSpaceStatus.BOOKED);
+        assertThat(adSpaceService.getAvailableAdSpaces(null, null))
+                .extracting(AdSpaceResponseDto::getId)
+                .containsExactly(busStop.getId());
+    }
+
+    private static AdSpace adSpace(String name, AdSpaceType type, String city) {
+        return AdSpace.builder()
+                .name(name)
+                .type(type)
+                .city(city)
+                .address("123 Main St")
+                .pricePerDay(BigDecimal.valueOf(100))
+                .status(AdSpaceStatus.AVAILABLE)
+                .build();
+    }
+}
@@ -0,0 +1,166 @@
+package com.generatik.adspace.service.impl;
+
+import com.generatik.adspace.dto.booking.BookingResponseDto;
+import com.generatik.adspace.dto.booking.CreateBookingRequestDto;
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.exception.BusinessValidationException;
+import com.generatik.adspace.index.ApprovedBookingIndexLoader;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import com.generatik.adspace.service.BookingRequestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Races many threads creating and approving overlapping bookings on the same ad spaces
+ * and checks that no overlapping APPROVED bookings are ever committed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingConcurrencyStressTest {
+
+    private static final int THREADS = 16;
+    private static final int BOOKINGS_PER_AD_SPACE = 40;
+
+    @Autowired
+    private BookingRequestService bookingRequestService;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    @Autowired
+    private ApprovedBookingIndexLoader approvedBookingIndexLoader;
+
+    private final List<AdSpace> adSpaces = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+        for (int i = 0; i < 2; i++) {
+            adSpaces.add(adSpaceRepository.save(AdSpace.builder()
+                    .name("Billboard " + i)
+                    .type(AdSpaceType.BILLBOARD)
+                    .city("New York")
+                    .address(i + " Main St")
+                    .pricePerDay(BigDecimal.valueOf(100))
+                    .status(AdSpaceStatus.AVAILABLE)
+                    .build()));
+        }
+        approvedBookingIndexLoader.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+        approvedBookingIndexLoader.rebuild();
+    }
+
+    @Test
+    @DisplayName("Concurrent creates and approvals should never commit overlapping approved bookings")
+    void concurrentCreateAndApprove_NoOverlapCommitted() throws Exception {
+        // Phase 1: create overlapping PENDING bookings from many threads at once
+        List<Callable<BookingResponseDto>> creates = new ArrayList<>();
+        for (AdSpace adSpace : adSpaces) {
+            for (int i = 0; i < BOOKINGS_PER_AD_SPACE; i++) {
+                LocalDate start = LocalDate.now().plusDays(1 + (i % 10) * 3);
+                creates.add(() -> bookingRequestService.createBooking(CreateBookingRequestDto.builder()
+                        .adSpaceId(adSpace.getId())
+                        .advertiserName("Advertiser")
+                        .advertiserEmail("advertiser@example.com")
+                        .startDate(start)
+                        .endDate(start.plusDays(9))
+                        .build()));
+            }
+        }
+        List<BookingResponseDto> created = runConcurrently(creates);
+        assertThat(created).hasSize(adSpaces.size() * BOOKINGS_PER_AD_SPACE);
+
+        // Phase 2: approve all of them concurrently; only non-overlapping ones may succeed
+        Collections.shuffle(created);
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Callable<BookingResponseDto>> approvals = new ArrayList<>();
+        for (BookingResponseDto booking : created) {
+            approvals.add(() -> {
+                try {
+                    return bookingRequestService.approveBooking(booking.getId());
+                } catch (BusinessValidationException e) {
+                    conflicts.incrementAndGet();
+                    return null;
+                }
+            });
+        }
+        List<BookingResponseDto> approved = runConcurrently(approvals).stream()
+                .filter(b -> b != null)
+                .toList();
+
+        // Assert
+        assertThat(approved).isNotEmpty();
+        assertThat(conflicts.get()).isPositive();
+
+        List<BookingResponseDto> committed = bookingRequestService.getAllBookings(Optional.of(BookingStatus.APPROVED));
+        assertThat(committed).hasSameSizeAs(approved);
+        for (BookingResponseDto a : committed) {
+            for (BookingResponseDto b : committed) {
+                if (a.getId().equals(b.getId()) || !a.getAdSpaceId().equals(b.getAdSpaceId())) {
+                    continue;
+                }
+                boolean overlaps = !a.getStartDate().isAfter(b.getEndDate()) && !a.getEndDate().isBefore(b.getStartDate());
+                assertThat(overlaps)
+                        .as("bookings %d and %d overlap", a.getId(), b.getId())
+                        .isFalse();
+            }
+        }
+    }
+
+    private <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.generatik.adspace.service.impl;
+
+import com.generatik.adspace.entity.AdSpace;
+import com.generatik.adspace.entity.AdSpaceStatus;
+import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingRequest;
+import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.repository.AdSpaceRepository;
+import com.generatik.adspace.repository.BookingRequestRepository;
+import com.generatik.adspace.service.BookingRequestService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class BookingQueryStatementCountTest {
+
+    @Autowired
+    private BookingRequestService bookingRequestService;
+
+    @Autowired
+    private AdSpaceRepository adSpaceRepository;
+
+    @Autowired
+    private BookingRequestRepository bookingRequestRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        bookingRequestRepository.deleteAll();
+        adSpaceRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest(name = "{0} bookings")
+    @ValueSource(ints = {5, 50})
+    @DisplayName("Listing bookings should issue a single statement regardless of booking count")
+    void getAllBookings_SingleStatement(int bookingCount) {
+        // Arrange: one ad space per booking, the worst case for lazy loading
+        List<BookingRequest> bookings = new ArrayList<>();
+        for (int i = 0; i < bookingCount; i++) {
+            AdSpace adSpace = adSpaceRepository.save(AdSpace.builder()
+                    .name("Billboard " + i)
+                    .type(AdSpaceType.BILLBOARD)
+                    .city("New York")
+                    .address(i + " Main St")
+                    .pricePerDay(BigDecimal.valueOf(100))
+                    .status(AdSpaceStatus.AVAILABLE)
+                    .build());
+            bookings.add(BookingRequest.builder()
+                    .adSpace(adSpace)
+                    .advertiserName("Advertiser " + i)
+                    .advertiserEmail("advertiser" + i + "@example.com")
+                    .startDate(LocalDate.now().plusDays(1))
+                    .endDate(LocalDate.now().plusDays(8))
+                    .status(BookingStatus.PENDING)
+                    .totalCost(BigDecimal.valueOf(800))
+                    .build());
+        }
+        bookingRequestRepository.saveAll(bookings);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        var result = bookingRequestService.getAllBookings(Optional.empty());
+
+        // Assert
+        assertThat(result).hasSize(bookingCount);
+        assertThat(result).allSatisfy(dto -> assertThat(dto.getAdSpaceName()).startsWith("Billboard "));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -1,14 +1,22 @@
 package com.generatik.adspace.service.impl;
 
+import com.generatik.adspace.analytics.BookingRollupWriter;
+import com.generatik.adspace.dto.booking.BookingDecisionBatchRequestDto;
+import com.generatik.adspace.dto.booking.BookingDecisionBatchResultDto;
+import com.generatik.adspace.dto.booking.BookingIntervalDto;
 import com.generatik.adspace.dto.booking.BookingResponseDto;
 import com.generatik.adspace.dto.booking.CreateBookingRequestDto;
 import com.generatik.adspace.entity.AdSpace;
 import com.generatik.adspace.entity.AdSpaceStatus;
 import com.generatik.adspace.entity.AdSpaceType;
+import com.generatik.adspace.entity.BookingEventType;
 import com.generatik.adspace.entity.BookingRequest;
 import com.generatik.adspace.entity.BookingStatus;
+import com.generatik.adspace.event.BookingApprovedEvent;
 import com.generatik.adspace.exception.BusinessValidationException;
 import com.generatik.adspace.exception.NotFoundException;
+import com.generatik.adspace.index.ApprovedBookingIndex;
+import com.generatik.adspace.outbox.BookingEventOutbox;
 import com.generatik.adspace.repository.AdSpaceRepository;
 import com.generatik.adspace.repository.BookingRequestRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,7 +25,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -25,6 +35,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -41,6 +52,18 @@ class BookingRequestServiceTest {
     @Mock
     private AdSpaceRepository adSpaceRepository;
 
+    @Mock
+    private BookingEventOutbox bookingEventOutbox;
+
+    @Mock
+    private BookingRollupWriter bookingRollupWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ApprovedBookingIndex approvedBookingIndex = new ApprovedBookingIndex();
+
     @InjectMocks
     private BookingRequestServiceImpl bookingRequestService;
 
@@ -75,10 +98,10 @@ class BookingRequestServiceTest {
     @DisplayName("Should create booking successfully when all validations pass")
     void createBooking_Success() {
         // Arrange
-        when(adSpaceRepository.findById(1L)).thenReturn(Optional.of(testAdSpace));
-        when(bookingRequestRepository.findOverlappingBookings(
+        when(adSpaceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
+        when(bookingRequestRepository.existsOverlapping(
                 eq(1L), eq(BookingStatus.APPROVED), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(new ArrayList<>());
+                .thenReturn(false);
 
         BookingRequest savedBooking = BookingRequest.builder()
                 .id(1L)
@@ -103,23 +126,24 @@ class BookingRequestServiceTest {
         assertThat(result.getAdvertiserName()).isEqualTo("John Doe");
         assertThat(result.getTotalCost()).isEqualTo(BigDecimal.valueOf(800));
 
-        verify(adSpaceRepository).findById(1L);
-        verify(bookingRequestRepository).findOverlappingBookings(eq(1L), eq(BookingStatus.APPROVED), any(), any());
+        verify(adSpaceRepository).findByIdForUpdate(1L);
+        verify(bookingRequestRepository).existsOverlapping(eq(1L), eq(BookingStatus.APPROVED), any(), any());
         verify(bookingRequestRepository).save(any(BookingRequest.class));
+        verify(bookingEventOutbox).record(BookingEventType.BOOKING_CREATED, result);
     }
 
     @Test
     @DisplayName("Should throw NotFoundException when ad space does not exist")
     void createBooking_AdSpaceNotFound() {
         // Arrange
-        when(adSpaceRepository.findById(1L)).thenReturn(Optional.empty());
+        when(adSpaceRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> bookingRequestService.createBooking(validBookingRequest))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Ad space not found");
 
-        verify(adSpaceRepository).findById(1L);
+        verify(adSpaceRepository).findByIdForUpdate(1L);
         verify(bookingRequestRepository, never()).save(any());
     }
 
@@ -135,7 +159,7 @@ class BookingRequestServiceTest {
                 .endDate(LocalDate.now().plusDays(7))
                 .build();
 
-        when(adSpaceRepository.findById(1L)).thenReturn(Optional.of(testAdSpace));
+        when(adSpaceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
 
         // Act & Assert
         assertThatThrownBy(() -> bookingRequestService.createBooking(invalidRequest))
@@ -157,7 +181,7 @@ class BookingRequestServiceTest {
                 .endDate(LocalDate.now().plusDays(5))
                 .build();
 
-        when(adSpaceRepository.findById(1L)).thenReturn(Optional.of(testAdSpace));
+        when(adSpaceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
 
         // Act & Assert
         assertThatThrownBy(() -> bookingRequestService.createBooking(invalidRequest))
@@ -179,7 +203,7 @@ class BookingRequestServiceTest {
                 .endDate(LocalDate.now().plusDays(5))
                 .build();
 
-        when(adSpaceRepository.findById(1L)).thenReturn(Optional.of(testAdSpace));
+        when(adSpaceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
 
         // Act & Assert
         assertThatThrownBy(() -> bookingRequestService.createBooking(invalidRequest))
@@ -190,11 +214,11 @@ class BookingRequestServiceTest {
     }
 
     @Test
-    @DisplayName("Should throw BusinessValidationException when ad space is not available")
+    @DisplayName("Should throw BusinessValidationException when ad space is under maintenance")
     void createBooking_AdSpaceNotAvailable() {
         // Arrange
-        testAdSpace.setStatus(AdSpaceStatus.BOOKED);
-        when(adSpaceRepository.findById(1L)).thenReturn(Optional.of(testAdSpace));
+        testAdSpace.setStatus(AdSpaceStatus.MAINTENANCE);
+        when(adSpaceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
 
         // Act & Assert
         assertThatThrownBy(() -> bookingRequestService.createBooking(validBookingRequest))
@@ -208,25 +232,34 @@ class BookingRequestServiceTest {
     @DisplayName("Should throw BusinessValidationException when there are overlapping approved bookings")
     void createBooking_OverlappingBookings() {
         // Arrange
-        when(adSpaceRepository.findById(1L)).thenReturn(Optional.of(testAdSpace));
-
-        BookingRequest overlappingBooking = BookingRequest.builder()
-                .id(2L)
-                .adSpace(testAdSpace)
-                .startDate(LocalDate.now().plusDays(5))
-                .endDate(LocalDate.now().plusDays(12))
-                .status(BookingStatus.APPROVED)
-                .build();
+        when(adSpaceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
 
-        when(bookingRequestRepository.findOverlappingBookings(
+        when(bookingRequestRepository.existsOverlapping(
                 eq(1L), eq(BookingStatus.APPROVED), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(List.of(overlappingBooking));
+                .thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> bookingRequestService.createBooking(validBookingRequest))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("approved bookings for the selected date range");
+
+        verify(bookingRequestRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should check overlaps against the index without querying the database once it is built")
+    void createBooking_OverlappingBookings_FromIndex() {
+        // Arrange
+        approvedBookingIndex.rebuild(() -> List.of(new BookingIntervalDto(
+                2L, 1L, LocalDate.now().plusDays(5), LocalDate.now().plusDays(12))));
+        when(adSpaceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
 
         // Act & Assert
         assertThatThrownBy(() -> bookingRequestService.createBooking(validBookingRequest))
                 .isInstanceOf(BusinessValidationException.class)
                 .hasMessageContaining("approved bookings for the selected date range");
 
+        verify(bookingRequestRepository, never()).existsOverlapping(any(), any(), any(), any());
         verify(bookingRequestRepository, never()).save(any());
     }
 
@@ -246,9 +279,23 @@ class BookingRequestServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
+        when(adSpaceRepository.findByBookingIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
         when(bookingRequestRepository.findById(1L)).thenReturn(Optional.of(pendingBooking));
-        when(adSpaceRepository.save(any(AdSpace.class))).thenReturn(testAdSpace);
+        when(bookingRequestRepository.existsOverlapping(
+                eq(1L), eq(BookingStatus.APPROVED), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(false);
         when(bookingRequestRepository.save(any(BookingRequest.class))).thenReturn(pendingBooking);
+        BookingResponseDto overlappingPending = BookingResponseDto.builder()
+                .id(2L)
+                .adSpaceId(1L)
+                .status(BookingStatus.PENDING)
+                .build();
+        when(bookingRequestRepository.findOverlappingPendingDtos(
+                1L, 1L, pendingBooking.getStartDate(), pendingBooking.getEndDate()))
+                .thenReturn(List.of(overlappingPending));
+        when(bookingRequestRepository.rejectOverlappingPending(
+                1L, 1L, pendingBooking.getStartDate(), pendingBooking.getEndDate()))
+                .thenReturn(1);
 
         // Act
         BookingResponseDto result = bookingRequestService.approveBooking(1L);
@@ -256,11 +303,50 @@ class BookingRequestServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(BookingStatus.APPROVED);
-        assertThat(testAdSpace.getStatus()).isEqualTo(AdSpaceStatus.BOOKED);
+        assertThat(testAdSpace.getStatus()).isEqualTo(AdSpaceStatus.AVAILABLE);
 
         verify(bookingRequestRepository).findById(1L);
-        verify(adSpaceRepository).save(testAdSpace);
+        verify(adSpaceRepository, never()).save(any());
         verify(bookingRequestRepository).save(pendingBooking);
+        verify(bookingRequestRepository).rejectOverlappingPending(
+                1L, 1L, pendingBooking.getStartDate(), pendingBooking.getEndDate());
+        verify(bookingEventOutbox).record(BookingEventType.BOOKING_APPROVED, result);
+        verify(eventPublisher).publishEvent(new BookingApprovedEvent(
+                1L, 1L, pendingBooking.getStartDate(), pendingBooking.getEndDate()));
+        verify(bookingEventOutbox).recordAll(BookingEventType.BOOKING_REJECTED, List.of(overlappingPending));
+        assertThat(overlappingPending.getStatus()).isEqualTo(BookingStatus.REJECTED);
+        assertThat(approvedBookingIndex.hasOverlap(1L, pendingBooking.getStartDate(), pendingBooking.getEndDate())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should mark ad space BOOKED when the approved booking already covers today")
+    void approveBooking_RunningBooking_MarksAdSpaceBooked() {
+        // Arrange
+        BookingRequest runningBooking = BookingRequest.builder()
+                .id(1L)
+                .adSpace(testAdSpace)
+                .advertiserName("John Doe")
+                .advertiserEmail("john.doe@example.com")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(7))
+                .status(BookingStatus.PENDING)
+                .totalCost(BigDecimal.valueOf(800))
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        when(adSpaceRepository.findByBookingIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
+        when(bookingRequestRepository.findById(1L)).thenReturn(Optional.of(runningBooking));
+        when(bookingRequestRepository.existsOverlapping(
+                eq(1L), eq(BookingStatus.APPROVED), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(false);
+        when(bookingRequestRepository.save(any(BookingRequest.class))).thenReturn(runningBooking);
+
+        // Act
+        bookingRequestService.approveBooking(1L);
+
+        // Assert
+        assertThat(testAdSpace.getStatus()).isEqualTo(AdSpaceStatus.BOOKED);
+        verify(adSpaceRepository).save(testAdSpace);
     }
 
     @Test
@@ -273,6 +359,7 @@ class BookingRequestServiceTest {
                 .status(BookingStatus.APPROVED)
                 .build();
 
+        when(adSpaceRepository.findByBookingIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
         when(bookingRequestRepository.findById(1L)).thenReturn(Optional.of(approvedBooking));
 
         // Act & Assert
@@ -283,6 +370,33 @@ class BookingRequestServiceTest {
         verify(bookingRequestRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should throw BusinessValidationException when approving a booking that overlaps an approved one")
+    void approveBooking_OverlapsApprovedBooking() {
+        // Arrange
+        BookingRequest pendingBooking = BookingRequest.builder()
+                .id(1L)
+                .adSpace(testAdSpace)
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(8))
+                .status(BookingStatus.PENDING)
+                .build();
+
+        when(adSpaceRepository.findByBookingIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
+        when(bookingRequestRepository.findById(1L)).thenReturn(Optional.of(pendingBooking));
+        when(bookingRequestRepository.existsOverlapping(
+                eq(1L), eq(BookingStatus.APPROVED), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> bookingRequestService.approveBooking(1L))
+                .isInstanceOf(BusinessValidationException.class)
+                .hasMessageContaining("approved bookings for the selected date range");
+
+        assertThat(pendingBooking.getStatus()).isEqualTo(BookingStatus.PENDING);
+        verify(bookingRequestRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Should reject pending booking successfully")
     void rejectBooking_Success() {
@@ -299,6 +413,7 @@ class BookingRequestServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
+        when(adSpaceRepository.findByBookingIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
         when(bookingRequestRepository.findById(1L)).thenReturn(Optional.of(pendingBooking));
         when(bookingRequestRepository.save(any(BookingRequest.class))).thenReturn(pendingBooking);
 
@@ -323,6 +438,7 @@ class BookingRequestServiceTest {
                 .status(BookingStatus.REJECTED)
                 .build();
 
+        when(adSpaceRepository.findByBookingIdForUpdate(1L)).thenReturn(Optional.of(testAdSpace));
         when(bookingRequestRepository.findById(1L)).thenReturn(Optional.of(rejectedBooking));
 
         // Act & Assert
@@ -333,6 +449,41 @@ class BookingRequestServiceTest {
         verify(bookingRequestRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should approve a batch with set-based updates instead of saving each booking")
+    void approveBookings_SetBasedUpdate() {
+        // Arrange
+        BookingResponseDto first = pendingDto(1L, 10, 16);
+        BookingResponseDto second = pendingDto(2L, 20, 26);
+        when(adSpaceRepository.findAllByBookingIdInForUpdate(List.of(1L, 2L))).thenReturn(List.of(testAdSpace));
+        when(bookingRequestRepository.findDtosByIdIn(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(bookingRequestRepository.findIntervalsByStatusAndAdSpaceIds(BookingStatus.APPROVED, Set.of(1L)))
+                .thenReturn(List.of());
+        when(bookingRequestRepository.findPendingDtosOverlapping(any(), any(), any())).thenReturn(List.of());
 
-}
+        // Act
+        BookingDecisionBatchResultDto result = bookingRequestService.approveBookings(
+                BookingDecisionBatchRequestDto.builder().ids(List.of(1L, 2L, 1L)).build());
 
+        // Assert
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getResults()).extracting(item -> item.getBooking().getStatus())
+                .containsExactly(BookingStatus.APPROVED, BookingStatus.APPROVED);
+        assertThat(approvedBookingIndex.hasOverlap(1L, LocalDate.now().plusDays(12), LocalDate.now().plusDays(13))).isTrue();
+
+        verify(bookingRequestRepository).updatePendingStatus(Set.of(1L, 2L), BookingStatus.APPROVED);
+        verify(bookingRequestRepository, never()).updatePendingStatus(any(), eq(BookingStatus.REJECTED));
+        verify(bookingRequestRepository, never()).save(any());
+        verify(eventPublisher, times(2)).publishEvent(any(BookingApprovedEvent.class));
+    }
+
+    private BookingResponseDto pendingDto(Long id, int startOffset, int endOffset) {
+        return BookingResponseDto.builder()
+                .id(id)
+                .adSpaceId(1L)
+                .startDate(LocalDate.now().plusDays(startOffset))
+                .endDate(LocalDate.now().plusDays(endOffset))
+                .status(BookingStatus.PENDING)
+                .build();
+    }
+}